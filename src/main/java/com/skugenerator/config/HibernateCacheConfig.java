@@ -0,0 +1,100 @@
+package com.skugenerator.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.skugenerator.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regiones de la cache de segundo nivel de Hibernate.
+ *
+ * Cada región es una cache de Caffeine con su propio tamaño máximo y vencimiento, leídos
+ * del descriptor app.business.catalog.second-level-cache.regions con el formato
+ * {@code región:entradas:minutos} separados por comas. El CacheManager resultante se
+ * entrega a la JCacheRegionFactory de Hibernate desde {@link JpaConfig}.
+ *
+ * Las regiones por defecto de Hibernate se crean siempre: la de resultados de consultas
+ * con límites, y la de marcas de tiempo de las tablas sin límite ni vencimiento, porque
+ * si una marca se pierde antes que los resultados que dependen de ella se devolverían
+ * resultados desactualizados.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    static final String DEFAULT_UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /** Regiones por defecto, con el formato de app.business.catalog.second-level-cache.regions */
+    public static final String DEFAULT_REGIONS =
+            Constants.Cache.PRODUCT_TYPES_REGION + ":32:60,"
+            + Constants.Cache.CATEGORIES_REGION + ":256:60,"
+            + Constants.Cache.CATEGORY_SUBCATEGORIES_REGION + ":256:60,"
+            + Constants.Cache.SUBCATEGORIES_REGION + ":2048:60,"
+            + Constants.Cache.SIZES_REGION + ":256:60,"
+            + Constants.Cache.COLORS_REGION + ":256:60,"
+            + Constants.Cache.SEASONS_REGION + ":32:60,"
+            + Constants.Cache.PRODUCT_TYPES_NATURAL_ID_REGION + ":32:60,"
+            + Constants.Cache.CATEGORIES_NATURAL_ID_REGION + ":256:60,"
+            + Constants.Cache.SUBCATEGORIES_NATURAL_ID_REGION + ":2048:60,"
+            + Constants.Cache.SIZES_NATURAL_ID_REGION + ":256:60,"
+            + Constants.Cache.COLORS_NATURAL_ID_REGION + ":256:60,"
+            + Constants.Cache.SEASONS_NATURAL_ID_REGION + ":32:60,"
+            + Constants.Cache.ACTIVE_CATALOG_QUERY_REGION + ":64:10,"
+            + Constants.Cache.SUBCATEGORIES_BY_CATEGORY_QUERY_REGION + ":256:10,"
+            + DEFAULT_QUERY_RESULTS_REGION + ":1000:10";
+
+    /**
+     * CacheManager de JCache con una cache de Caffeine por región.
+     *
+     * @param regions descriptor de las regiones
+     * @return CacheManager para la JCacheRegionFactory
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.business.catalog.second-level-cache.regions:" + DEFAULT_REGIONS + "}") String regions) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create(HibernateCacheConfig.class.getName()), HibernateCacheConfig.class.getClassLoader());
+        for (String region : regions.split(",")) {
+            String[] parts = region.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalStateException("Región de cache inválida '" + region
+                        + "': se esperaba región:entradas:minutos");
+            }
+            create(cacheManager, parts[0], OptionalLong.of(Long.parseLong(parts[1])),
+                    OptionalLong.of(TimeUnit.MINUTES.toNanos(Long.parseLong(parts[2]))));
+            log.debug("Región de cache de segundo nivel '{}': {} entradas, {} minutos", parts[0], parts[1], parts[2]);
+        }
+        if (cacheManager.getCache(DEFAULT_QUERY_RESULTS_REGION) == null) {
+            create(cacheManager, DEFAULT_QUERY_RESULTS_REGION, OptionalLong.of(1000), OptionalLong.of(TimeUnit.MINUTES.toNanos(10)));
+        }
+        create(cacheManager, DEFAULT_UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), OptionalLong.empty());
+        return cacheManager;
+    }
+
+    private static void create(CacheManager cacheManager, String name, OptionalLong maximumSize, OptionalLong expireAfterWriteNanos) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -1,7 +1,9 @@
 package com.skugenerator.config;
 
+import com.skugenerator.repository.NaturalIdJpaRepository;
 import com.skugenerator.util.Constants;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +19,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import jakarta.persistence.EntityManagerFactory;
+import javax.cache.CacheManager;
 import javax.sql.DataSource;
 import java.util.Optional;
 import java.util.Properties;
@@ -39,6 +42,7 @@ import java.util.Properties;
 @Configuration
 @EnableJpaRepositories(
         basePackages = "com.skugenerator.repository",
+        repositoryBaseClass = NaturalIdJpaRepository.class,
         entityManagerFactoryRef = "entityManagerFactory",
         transactionManagerRef = "transactionManager"
 )
@@ -82,10 +86,12 @@ public class JpaConfig {
      * Configuración del EntityManagerFactory con optimizaciones específicas.
      *
      * @param dataSource fuente de datos configurada
+     * @param hibernateCacheManager regiones de la cache de segundo nivel
      * @return EntityManagerFactory configurado
      */
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource,
+                                                                       CacheManager hibernateCacheManager) {
         log.info("Configurando EntityManagerFactory con Hibernate");
 
         LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
@@ -105,6 +111,9 @@ public class JpaConfig {
 
         // Configurar propiedades de Hibernate
         entityManagerFactory.setJpaProperties(hibernateProperties());
+        if (useSecondLevelCache) {
+            entityManagerFactory.getJpaPropertyMap().put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+        }
 
         // Configurar nombre de la unidad de persistencia
         entityManagerFactory.setPersistenceUnitName("skuGeneratorPU");
@@ -0,0 +1,40 @@
+package com.skugenerator.controller.actuator;
+
+import com.skugenerator.service.sku.AllocationJournal;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint de actuator de la bitácora de asignaciones de consecutivos.
+ *
+ * GET /actuator/skujournal muestra el estado del archivo; POST /actuator/skujournal
+ * compara el consecutivo más alto de cada prefijo de la bitácora con la base de datos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Component
+@Endpoint(id = "skujournal")
+public class SkuJournalEndpoint {
+
+    private final AllocationJournal journal;
+
+    public SkuJournalEndpoint(AllocationJournal journal) {
+        this.journal = journal;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return journal.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> verify() {
+        return journal.verify();
+    }
+}
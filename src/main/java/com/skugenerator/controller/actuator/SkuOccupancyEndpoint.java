@@ -0,0 +1,48 @@
+package com.skugenerator.controller.actuator;
+
+import com.skugenerator.model.dto.PrefixOccupancyReport;
+import com.skugenerator.service.sku.OccupancyRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint de actuator con los prefijos de SKU más cercanos a agotar sus 999 consecutivos.
+ *
+ * Disponible en /actuator/skuoccupancy; el parámetro opcional {@code limit} cambia la
+ * cantidad de prefijos reportados.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Component
+@Endpoint(id = "skuoccupancy")
+public class SkuOccupancyEndpoint {
+
+    private final OccupancyRegistry occupancyRegistry;
+
+    @Value("${app.business.sku.occupancy.report-size:20}")
+    private int reportSize;
+
+    public SkuOccupancyEndpoint(OccupancyRegistry occupancyRegistry) {
+        this.occupancyRegistry = occupancyRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> occupancy(@Nullable Integer limit) {
+        List<PrefixOccupancyReport> prefixes = occupancyRegistry.nearestExhaustion(
+                limit != null && limit > 0 ? limit : reportSize);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("loadedPrefixes", occupancyRegistry.size());
+        result.put("nearestExhaustion", prefixes);
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+package com.skugenerator.controller.api;
+
+import com.skugenerator.exception.ProductNotFoundException;
+import com.skugenerator.model.dto.BomExpansion;
+import com.skugenerator.model.dto.BomLine;
+import com.skugenerator.model.dto.ProductLookup;
+import com.skugenerator.model.dto.SkuValidationReport;
+import com.skugenerator.model.dto.VariantMatrixRequest;
+import com.skugenerator.service.idempotency.IdempotencyService;
+import com.skugenerator.service.label.LabelBatchService;
+import com.skugenerator.service.label.LabelFormat;
+import com.skugenerator.service.product.BillOfMaterialsService;
+import com.skugenerator.service.product.ProductLifecycleService;
+import com.skugenerator.service.product.ProductLookupService;
+import com.skugenerator.service.product.SkuStreamService;
+import com.skugenerator.service.product.VariantMatrixService;
+import com.skugenerator.service.sku.SkuValidationService;
+import com.skugenerator.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * API REST de productos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@RestController
+@RequestMapping(Constants.Api.PRODUCTS_ENDPOINT)
+@Tag(name = "🧸 Productos")
+public class ProductApiController {
+
+    private final VariantMatrixService variantMatrixService;
+    private final SkuStreamService skuStreamService;
+    private final IdempotencyService idempotencyService;
+    private final ProductLifecycleService productLifecycleService;
+    private final SkuValidationService skuValidationService;
+    private final LabelBatchService labelBatchService;
+    private final BillOfMaterialsService billOfMaterialsService;
+    private final ProductLookupService productLookupService;
+
+    public ProductApiController(VariantMatrixService variantMatrixService,
+                                SkuStreamService skuStreamService,
+                                IdempotencyService idempotencyService,
+                                ProductLifecycleService productLifecycleService,
+                                SkuValidationService skuValidationService,
+                                LabelBatchService labelBatchService,
+                                BillOfMaterialsService billOfMaterialsService,
+                                ProductLookupService productLookupService) {
+        this.variantMatrixService = variantMatrixService;
+        this.skuStreamService = skuStreamService;
+        this.idempotencyService = idempotencyService;
+        this.productLifecycleService = productLifecycleService;
+        this.skuValidationService = skuValidationService;
+        this.labelBatchService = labelBatchService;
+        this.billOfMaterialsService = billOfMaterialsService;
+        this.productLookupService = productLookupService;
+    }
+
+    /**
+     * Genera un producto por cada combinación de tallas, colores y temporadas.
+     *
+     * Con la cabecera Idempotency-Key, los reintentos de la misma solicitud devuelven los
+     * SKUs generados originalmente sin volver a asignar consecutivos.
+     *
+     * @param idempotencyKey clave de idempotencia opcional
+     * @param request matriz de variantes
+     * @return SKUs generados
+     */
+    @PostMapping("/variants")
+    @Operation(summary = "Generación masiva por matriz de variantes",
+            description = "Genera un SKU por cada combinación talla × color × temporada en una sola transacción")
+    public ResponseEntity<?> generateVariants(
+            @RequestHeader(value = Constants.Api.HEADER_IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody VariantMatrixRequest request) {
+        return idempotencyService.execute("products/variants", idempotencyKey, request,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(variantMatrixService.generate(request)));
+    }
+
+    /**
+     * Genera SKUs a partir de un cuerpo NDJSON con una tupla de atributos por línea.
+     *
+     * El cuerpo se lee directamente del stream de la solicitud (no pasa por la resolución
+     * multipart) y los resultados se escriben como NDJSON por bloques mientras se sigue leyendo.
+     *
+     * @param request solicitud HTTP con el cuerpo NDJSON
+     * @param response respuesta HTTP donde se escriben los SKUs generados
+     * @throws IOException si falla la lectura o la escritura del stream
+     */
+    @PostMapping(value = "/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Generación masiva por streaming NDJSON",
+            description = "Lee una tupla de atributos por línea y responde un SKU o un error por línea")
+    public void generateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        skuStreamService.generate(request.getInputStream(), response.getOutputStream());
+    }
+
+    /**
+     * Valida un archivo de SKUs, uno por línea, contra los catálogos activos.
+     *
+     * @param request solicitud HTTP con el cuerpo de texto plano
+     * @return reporte con contadores por motivo y los primeros SKUs rechazados
+     * @throws IOException si falla la lectura del stream
+     */
+    @PostMapping(value = "/validate",
+            consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Validación masiva de SKUs",
+            description = "Verifica formato y que cada componente exista y esté activo en su catálogo, sin consultas por SKU")
+    public ResponseEntity<SkuValidationReport> validate(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(skuValidationService.validate(request.getInputStream()));
+    }
+
+    /**
+     * Descarga como ZIP las etiquetas EAN-13 de los productos activos de una temporada.
+     *
+     * Las etiquetas se dibujan en paralelo y se escriben al ZIP a medida que quedan listas,
+     * sin armar el archivo completo en memoria.
+     *
+     * @param seasonCode código de la temporada
+     * @param format formato de las etiquetas (png o svg)
+     * @param response respuesta HTTP donde se escribe el ZIP
+     * @throws IOException si falla la escritura del stream
+     */
+    @GetMapping(value = "/labels", produces = "application/zip")
+    @Operation(summary = "Etiquetas EAN-13 por temporada",
+            description = "Genera una etiqueta con código de barras EAN-13 por producto activo de la temporada y las entrega en un ZIP")
+    public void labels(@RequestParam String seasonCode,
+                       @RequestParam(defaultValue = "png") String format,
+                       HttpServletResponse response) throws IOException {
+        LabelFormat labelFormat = LabelFormat.from(format);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"labels-" + seasonCode.replaceAll("[^0-9A-Za-z]", "") + ".zip\"");
+        labelBatchService.writeSeason(seasonCode, labelFormat, response.getOutputStream());
+    }
+
+    /**
+     * Consulta un producto por su código SKU.
+     *
+     * @param skuCode código SKU del producto
+     * @return id, nombre y estado del producto
+     */
+    @GetMapping("/{skuCode}")
+    @Operation(summary = "Consultar producto por SKU",
+            description = "Devuelve los datos básicos del producto desde la cache en memoria")
+    public ResponseEntity<ProductLookup> lookup(@PathVariable String skuCode) {
+        return ResponseEntity.ok(productLookupService.find(skuCode)
+                .orElseThrow(() -> new ProductNotFoundException(skuCode)));
+    }
+
+    /**
+     * Obtiene la lista de materiales expandida de un producto.
+     *
+     * @param skuCode código SKU del producto
+     * @return componentes directos y productos simples con su cantidad total
+     */
+    @GetMapping("/{skuCode}/components")
+    @Operation(summary = "Lista de materiales",
+            description = "Expande recursivamente los componentes de un producto compuesto o set")
+    public ResponseEntity<BomExpansion> components(@PathVariable String skuCode) {
+        return ResponseEntity.ok(billOfMaterialsService.expand(skuCode));
+    }
+
+    /**
+     * Reemplaza los componentes directos de un producto compuesto o set.
+     *
+     * @param skuCode código SKU del producto padre
+     * @param components componentes con su cantidad
+     * @return nueva lista de materiales expandida
+     */
+    @PutMapping("/{skuCode}/components")
+    @Operation(summary = "Definir componentes",
+            description = "Reemplaza los componentes directos del producto; rechaza ciclos y tipos sin composición")
+    public ResponseEntity<BomExpansion> replaceComponents(@PathVariable String skuCode,
+                                                         @RequestBody List<@Valid BomLine> components) {
+        return ResponseEntity.ok(billOfMaterialsService.replaceComponents(skuCode, components));
+    }
+
+    /**
+     * Elimina lógicamente un producto.
+     *
+     * @param skuCode código SKU del producto
+     * @return respuesta sin contenido
+     */
+    @DeleteMapping("/{skuCode}")
+    @Operation(summary = "Eliminar producto", description = "Elimina lógicamente el producto con el código SKU indicado")
+    public ResponseEntity<Void> delete(@PathVariable String skuCode) {
+        productLifecycleService.softDelete(skuCode);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Restaura un producto eliminado lógicamente.
+     *
+     * @param skuCode código SKU del producto
+     * @return respuesta sin contenido
+     */
+    @PostMapping("/{skuCode}/restore")
+    @Operation(summary = "Restaurar producto", description = "Restaura un producto eliminado si su código no fue reutilizado")
+    public ResponseEntity<Void> restore(@PathVariable String skuCode) {
+        productLifecycleService.restore(skuCode);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.skugenerator.controller.api;
+
+import com.skugenerator.model.dto.SkuRangeBatchRequest;
+import com.skugenerator.model.dto.SkuRangeBatchResult;
+import com.skugenerator.model.dto.SkuRangeRequest;
+import com.skugenerator.model.dto.SkuRangeReservationResponse;
+import com.skugenerator.service.sku.SkuRangeReservationService;
+import com.skugenerator.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * API REST de rangos de consecutivos reservados por proveedores.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@RestController
+@RequestMapping(Constants.Api.SKU_RANGES_ENDPOINT)
+@Tag(name = "🏷️ Rangos de SKU")
+public class SkuRangeApiController {
+
+    private final SkuRangeReservationService reservationService;
+
+    public SkuRangeApiController(SkuRangeReservationService reservationService) {
+        this.reservationService = reservationService;
+    }
+
+    /**
+     * Reserva un rango contiguo de consecutivos de un prefijo.
+     *
+     * @param request prefijo, cantidad, proveedor y vigencia
+     * @return rango reservado
+     */
+    @PostMapping
+    @Operation(summary = "Reservar rango",
+            description = "Reserva K consecutivos contiguos de un prefijo para un proveedor, con vencimiento")
+    public ResponseEntity<SkuRangeReservationResponse> reserve(@Valid @RequestBody SkuRangeRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationService.reserve(request));
+    }
+
+    /**
+     * Confirma en bloque reservas pendientes.
+     *
+     * @param request identificadores de las reservas
+     * @return cantidad de reservas confirmadas
+     */
+    @PostMapping("/confirm")
+    @Operation(summary = "Confirmar rangos", description = "Confirma en bloque las reservas pendientes y no vencidas")
+    public ResponseEntity<SkuRangeBatchResult> confirm(@Valid @RequestBody SkuRangeBatchRequest request) {
+        return ResponseEntity.ok(reservationService.confirm(request.getIds()));
+    }
+
+    /**
+     * Libera en bloque reservas pendientes.
+     *
+     * @param request identificadores de las reservas
+     * @return cantidad de reservas liberadas
+     */
+    @PostMapping("/release")
+    @Operation(summary = "Liberar rangos", description = "Libera en bloque las reservas pendientes y devuelve sus consecutivos")
+    public ResponseEntity<SkuRangeBatchResult> release(@Valid @RequestBody SkuRangeBatchRequest request) {
+        return ResponseEntity.ok(reservationService.release(request.getIds()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.skugenerator.exception;
+
+/**
+ * Excepción lanzada cuando un código de catálogo (tipo, categoría, subcategoría,
+ * talla, color o temporada) no existe o está inactivo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public class CatalogNotFoundException extends RuntimeException {
+
+    private final String catalog;
+    private final String code;
+
+    /**
+     * Crea la excepción para el código no encontrado.
+     *
+     * @param catalog nombre del catálogo consultado
+     * @param code código buscado
+     */
+    public CatalogNotFoundException(String catalog, String code) {
+        super(String.format("No existe %s activo con código '%s'", catalog, code));
+        this.catalog = catalog;
+        this.code = code;
+    }
+
+    /**
+     * Obtiene el nombre del catálogo consultado.
+     *
+     * @return nombre del catálogo
+     */
+    public String getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Obtiene el código no encontrado.
+     *
+     * @return código buscado
+     */
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,36 @@
+package com.skugenerator.exception;
+
+import com.skugenerator.util.Constants;
+
+/**
+ * Excepción lanzada cuando un prefijo de SKU agotó sus consecutivos disponibles
+ * (MIN_CONSECUTIVE_VALUE..MAX_CONSECUTIVE_VALUE).
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public class ConsecutiveExhaustedException extends RuntimeException {
+
+    private final long prefix;
+
+    /**
+     * Crea la excepción para el prefijo agotado.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     */
+    public ConsecutiveExhaustedException(long prefix) {
+        super(String.format("Se agotaron los consecutivos (máximo %d) para el prefijo %09d",
+                Constants.SkuCodes.MAX_CONSECUTIVE_VALUE, prefix));
+        this.prefix = prefix;
+    }
+
+    /**
+     * Obtiene el prefijo agotado.
+     *
+     * @return prefijo de 9 dígitos empaquetado como long
+     */
+    public long getPrefix() {
+        return prefix;
+    }
+}
@@ -0,0 +1,36 @@
+package com.skugenerator.exception;
+
+import com.skugenerator.util.Constants;
+
+/**
+ * Excepción lanzada cuando ya existe un producto activo con los mismos atributos y nombre.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public class DuplicateProductException extends RuntimeException {
+
+    private final String skuPrefix;
+    private final String name;
+
+    /**
+     * Crea la excepción para el producto duplicado.
+     *
+     * @param skuPrefix prefijo de atributos de 9 dígitos
+     * @param name nombre del producto
+     */
+    public DuplicateProductException(String skuPrefix, String name) {
+        super(String.format("%s: '%s' con prefijo %s", Constants.Messages.ERROR_DUPLICATE_CODE, name, skuPrefix));
+        this.skuPrefix = skuPrefix;
+        this.name = name;
+    }
+
+    public String getSkuPrefix() {
+        return skuPrefix;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,28 @@
+package com.skugenerator.exception;
+
+/**
+ * Excepción lanzada cuando una clave de idempotencia se reutiliza con un cuerpo de
+ * solicitud distinto al de la solicitud original.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    /**
+     * Crea la excepción para la clave reutilizada.
+     *
+     * @param idempotencyKey clave enviada por el cliente
+     */
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super(String.format("La clave de idempotencia '%s' ya se usó con otra solicitud", idempotencyKey));
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
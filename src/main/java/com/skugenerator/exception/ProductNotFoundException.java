@@ -0,0 +1,29 @@
+package com.skugenerator.exception;
+
+import com.skugenerator.util.Constants;
+
+/**
+ * Excepción lanzada cuando no existe un producto con el código SKU indicado.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public class ProductNotFoundException extends RuntimeException {
+
+    private final String skuCode;
+
+    /**
+     * Crea la excepción para el código SKU no encontrado.
+     *
+     * @param skuCode código SKU buscado
+     */
+    public ProductNotFoundException(String skuCode) {
+        super(String.format("%s: %s", Constants.Messages.ERROR_PRODUCT_NOT_FOUND, skuCode));
+        this.skuCode = skuCode;
+    }
+
+    public String getSkuCode() {
+        return skuCode;
+    }
+}
@@ -0,0 +1,40 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Lista de materiales expandida de un producto.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BomExpansion {
+
+    private String skuCode;
+
+    /**
+     * Componentes directos con su cantidad.
+     */
+    private List<BomLine> components;
+
+    /**
+     * Productos simples que forman el producto, con la cantidad total acumulada por todos
+     * los niveles. Un producto sin componentes se contiene a sí mismo.
+     */
+    private List<BomLine> leaves;
+
+    /**
+     * Niveles de anidamiento (0 para un producto sin componentes).
+     */
+    private int depth;
+}
@@ -0,0 +1,31 @@
+package com.skugenerator.model.dto;
+
+import com.skugenerator.util.Constants;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Línea de una lista de materiales: un SKU y su cantidad.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BomLine {
+
+    @NotBlank(message = "El código SKU es obligatorio")
+    @Pattern(regexp = Constants.SkuCodes.SKU_PATTERN, message = "El código SKU debe tener 12 dígitos numéricos")
+    private String skuCode;
+
+    @Min(value = 1, message = "La cantidad debe ser mayor a 0")
+    private long quantity;
+}
@@ -0,0 +1,26 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SKU generado para una variante.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeneratedSku {
+
+    private String skuCode;
+    private String name;
+    private String sizeCode;
+    private String colorCode;
+    private String seasonCode;
+}
@@ -0,0 +1,29 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estado de ocupación de un prefijo de SKU y pronóstico de agotamiento.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrefixOccupancyReport {
+
+    private String prefix;
+    private int used;
+    private int free;
+    private double fillRatio;
+    private double allocationsPerHour;
+
+    /** Horas estimadas hasta agotar el prefijo al ritmo actual; null si no hay asignaciones recientes */
+    private Double hoursToExhaustion;
+}
@@ -0,0 +1,25 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Datos de un producto consultado por su código SKU desde puntos de venta o el ERP.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookup {
+
+    private Long id;
+    private String skuCode;
+    private String name;
+    private boolean active;
+}
@@ -0,0 +1,28 @@
+package com.skugenerator.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Identificadores de las reservas de rango a confirmar o liberar en bloque.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuRangeBatchRequest {
+
+    @NotEmpty(message = "Debe indicar al menos una reserva")
+    @Size(max = 1000, message = "No se pueden procesar más de {max} reservas a la vez")
+    private Set<Long> ids;
+}
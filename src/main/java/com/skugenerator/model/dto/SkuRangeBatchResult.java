@@ -0,0 +1,35 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de confirmar o liberar reservas de rango en bloque.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuRangeBatchResult {
+
+    /**
+     * Reservas solicitadas.
+     */
+    private int requested;
+
+    /**
+     * Reservas que cambiaron de estado; las demás no existían, ya estaban cerradas o vencieron.
+     */
+    private int updated;
+
+    /**
+     * Consecutivos que volvieron a quedar libres.
+     */
+    private long consecutivesReleased;
+}
@@ -0,0 +1,47 @@
+package com.skugenerator.model.dto;
+
+import com.skugenerator.util.Constants;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solicitud de un rango contiguo de consecutivos para un proveedor.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuRangeRequest {
+
+    @NotBlank(message = "El prefijo es obligatorio")
+    @Pattern(regexp = Constants.SkuCodes.PREFIX_PATTERN, message = "El prefijo debe tener 9 dígitos numéricos")
+    private String skuPrefix;
+
+    @NotNull(message = "La cantidad es obligatoria")
+    @Min(value = 1, message = "La cantidad debe ser mayor a 0")
+    @Max(value = Constants.SkuCodes.MAX_CONSECUTIVE_VALUE, message = "La cantidad no puede ser mayor a 999")
+    private Integer quantity;
+
+    @NotBlank(message = "El proveedor es obligatorio")
+    @Size(max = 50, message = "El código de proveedor no puede exceder los 50 caracteres")
+    private String supplierCode;
+
+    /**
+     * Horas para confirmar la reserva antes de que se libere; si no se indica se usa la
+     * configurada por defecto.
+     */
+    @Min(value = 1, message = "La vigencia debe ser de al menos una hora")
+    private Integer ttlHours;
+}
@@ -0,0 +1,41 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rango de consecutivos reservado para un proveedor.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuRangeReservationResponse {
+
+    private Long id;
+    private String skuPrefix;
+    private int firstConsecutive;
+    private int lastConsecutive;
+
+    /**
+     * Primer código SKU del rango.
+     */
+    private String firstSku;
+
+    /**
+     * Último código SKU del rango.
+     */
+    private String lastSku;
+
+    private String supplierCode;
+    private String status;
+    private LocalDateTime expiresAt;
+}
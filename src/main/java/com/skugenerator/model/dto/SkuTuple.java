@@ -0,0 +1,35 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tupla de atributos de un producto a generar, usada como línea de entrada NDJSON
+ * en la generación masiva por streaming.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuTuple {
+
+    private String productTypeCode;
+    private String categoryCode;
+    private String subcategoryCode;
+    private String sizeCode;
+    private String colorCode;
+    private String seasonCode;
+
+    /**
+     * Nombre del producto; si se omite se genera uno a partir de los atributos.
+     */
+    private String name;
+
+    private String description;
+}
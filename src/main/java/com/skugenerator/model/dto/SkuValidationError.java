@@ -0,0 +1,30 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * SKU rechazado en una validación masiva, con los motivos del rechazo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuValidationError {
+
+    /** Número de línea en la entrada (desde 1) */
+    private long line;
+
+    private String sku;
+
+    /** Motivos del rechazo: FORMAT, PRODUCT_TYPE, CATEGORY, SUBCATEGORY, SIZE, COLOR, SEASON, CONSECUTIVE */
+    private List<String> reasons;
+}
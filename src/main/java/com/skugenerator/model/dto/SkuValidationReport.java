@@ -0,0 +1,40 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de la validación masiva de SKUs.
+ *
+ * Solo se detallan los primeros errores; el resto se refleja en los contadores por motivo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuValidationReport {
+
+    private long total;
+    private long valid;
+    private long invalid;
+
+    /** Cantidad de SKUs rechazados por cada motivo */
+    private Map<String, Long> invalidByReason;
+
+    /** Primeros SKUs rechazados, hasta el máximo configurado */
+    private List<SkuValidationError> errors;
+
+    /** true si hubo más errores de los detallados */
+    private boolean truncated;
+
+    private long elapsedMillis;
+}
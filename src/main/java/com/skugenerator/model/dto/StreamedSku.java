@@ -0,0 +1,38 @@
+package com.skugenerator.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Línea de salida NDJSON de la generación masiva por streaming.
+ *
+ * Cada línea referencia el número de línea de entrada y trae el SKU generado
+ * o el error que impidió generarlo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamedSku {
+
+    private long line;
+    private String skuCode;
+    private String name;
+    private String error;
+
+    public static StreamedSku generated(long line, String skuCode, String name) {
+        return new StreamedSku(line, skuCode, name, null);
+    }
+
+    public static StreamedSku failed(long line, String error) {
+        return new StreamedSku(line, null, null, error);
+    }
+}
@@ -0,0 +1,72 @@
+package com.skugenerator.model.dto;
+
+import com.skugenerator.util.Constants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Solicitud de generación masiva de SKUs para una prenda en varias tallas, colores y temporadas.
+ *
+ * Se genera un producto por cada combinación talla × color × temporada, todos con el mismo
+ * tipo, categoría y subcategoría.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantMatrixRequest {
+
+    @NotBlank(message = "El tipo de producto es obligatorio")
+    @Pattern(regexp = Constants.Validation.TYPE_CODE_PATTERN, message = "Código de tipo inválido")
+    private String productTypeCode;
+
+    @NotBlank(message = "La categoría es obligatoria")
+    @Pattern(regexp = Constants.Validation.CATEGORY_CODE_PATTERN, message = "Código de categoría inválido")
+    private String categoryCode;
+
+    @NotBlank(message = "La subcategoría es obligatoria")
+    @Pattern(regexp = Constants.Validation.SUBCATEGORY_CODE_PATTERN, message = "Código de subcategoría inválido")
+    private String subcategoryCode;
+
+    @NotEmpty(message = "Debe indicar al menos una talla")
+    private Set<@Pattern(regexp = Constants.Validation.SIZE_CODE_PATTERN, message = "Código de talla inválido") String> sizeCodes;
+
+    @NotEmpty(message = "Debe indicar al menos un color")
+    private Set<@Pattern(regexp = Constants.Validation.COLOR_CODE_PATTERN, message = "Código de color inválido") String> colorCodes;
+
+    @NotEmpty(message = "Debe indicar al menos una temporada")
+    private Set<@Pattern(regexp = Constants.Validation.SEASON_CODE_PATTERN, message = "Código de temporada inválido") String> seasonCodes;
+
+    /**
+     * Nombre base de la prenda; cada variante agrega su talla y color.
+     */
+    @NotBlank(message = "El nombre del producto es obligatorio")
+    @Size(min = Constants.Validation.PRODUCT_NAME_MIN_LENGTH,
+            max = Constants.Validation.PRODUCT_NAME_MAX_LENGTH,
+            message = "El nombre debe tener entre {min} y {max} caracteres")
+    private String name;
+
+    @Size(max = 1000, message = "La descripción no puede exceder los 1000 caracteres")
+    private String description;
+
+    /**
+     * Cantidad de combinaciones que genera la solicitud.
+     *
+     * @return tallas × colores × temporadas
+     */
+    public int variantCount() {
+        return sizeCodes.size() * colorCodes.size() * seasonCodes.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.skugenerator.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una generación masiva de SKUs por matriz de variantes.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantMatrixResponse {
+
+    private int generated;
+    private long elapsedMillis;
+    private List<GeneratedSku> skus;
+}
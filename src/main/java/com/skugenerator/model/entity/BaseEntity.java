@@ -1,8 +1,11 @@
 package com.skugenerator.model.entity;
 
 import jakarta.persistence.*;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -26,6 +29,8 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Setter
+@NoArgsConstructor
+@SuperBuilder
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
@@ -76,6 +81,7 @@ public abstract class BaseEntity {
      * true = activo (registro visible)
      * false = eliminado (registro oculto)
      */
+    @Builder.Default
     @Column(name = "active", nullable = false)
     private Boolean active = true;
 
@@ -83,6 +89,7 @@ public abstract class BaseEntity {
      * Campo de versión para control de concurrencia optimista.
      * Se incrementa automáticamente en cada actualización.
      */
+    @Builder.Default
     @Version
     @Column(name = "version", nullable = false)
     private Long version = 0L;
@@ -7,6 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,6 +42,8 @@ import java.util.List;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_category_code", columnNames = "code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.CATEGORIES_REGION)
+@NaturalIdCache(region = Constants.Cache.CATEGORIES_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +58,7 @@ public class Category extends BaseEntity {
     @NotBlank(message = "El código de la categoría es obligatorio")
     @Pattern(regexp = Constants.Validation.CATEGORY_CODE_PATTERN,
             message = "El código debe ser de dos dígitos numéricos (10-99)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 2, nullable = false, unique = true)
     private String code;
 
@@ -110,6 +117,7 @@ public class Category extends BaseEntity {
      * Relación One-to-Many con Subcategorías.
      * Una categoría puede tener múltiples subcategorías.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.CATEGORY_SUBCATEGORIES_REGION)
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Subcategory> subcategories = new ArrayList<>();
 
@@ -187,6 +195,19 @@ public class Category extends BaseEntity {
                 : "Categoría de producto: " + name;
     }
 
+    /**
+     * Cambia el código de la categoría y recalcula el código completo de sus subcategorías,
+     * que lo incluye y no se actualizaría con solo modificar la categoría.
+     *
+     * @param code nuevo código de la categoría (2 dígitos)
+     */
+    public void setCode(String code) {
+        this.code = code;
+        if (subcategories != null) {
+            subcategories.forEach(Subcategory::syncFullCode);
+        }
+    }
+
     /**
      * Agrega una subcategoría a esta categoría.
      *
@@ -7,6 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entidad que representa los colores disponibles en el sistema SKU Generator.
@@ -38,6 +42,8 @@ import lombok.experimental.SuperBuilder;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_color_code", columnNames = "code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.COLORS_REGION)
+@NaturalIdCache(region = Constants.Cache.COLORS_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +58,7 @@ public class Color extends BaseEntity {
     @NotBlank(message = "El código del color es obligatorio")
     @Pattern(regexp = Constants.Validation.COLOR_CODE_PATTERN,
             message = "El código debe ser de dos dígitos numéricos (01-99)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 2, nullable = false, unique = true)
     private String code;
 
@@ -0,0 +1,113 @@
+package com.skugenerator.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra la reserva de consecutivos por prefijo entre instancias de la aplicación.
+ *
+ * Cada prefijo de 9 dígitos tiene una fila con el último consecutivo reservado por
+ * cualquier nodo ({@code leasedUpTo}) y los datos del último bloque entregado. Los nodos
+ * reservan bloques avanzando {@code leasedUpTo} en una transacción corta protegida por
+ * el versionado optimista de {@link BaseEntity}, y reparten el bloque localmente.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "consecutive_leases",
+        indexes = {
+                @Index(name = "idx_consecutive_lease_prefix", columnList = "sku_prefix"),
+                @Index(name = "idx_consecutive_lease_expires", columnList = "expires_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_consecutive_lease_prefix", columnNames = "sku_prefix")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class ConsecutiveLease extends BaseEntity {
+
+    /**
+     * Prefijo de atributos del SKU (9 dígitos).
+     */
+    @NotBlank(message = "El prefijo del SKU es obligatorio")
+    @Column(name = "sku_prefix", length = 9, nullable = false, updatable = false)
+    private String skuPrefix;
+
+    /**
+     * Último consecutivo reservado por cualquier nodo en este prefijo.
+     */
+    @NotNull
+    @Min(0)
+    @Column(name = "leased_up_to", nullable = false)
+    private Integer leasedUpTo;
+
+    /**
+     * Nodo dueño del último bloque reservado.
+     * Se limpia cuando el bloque se devuelve o expira.
+     */
+    @Column(name = "owner_node", length = 100)
+    private String ownerNode;
+
+    /**
+     * Primer consecutivo del último bloque reservado.
+     */
+    @Column(name = "block_first")
+    private Integer blockFirst;
+
+    /**
+     * Último consecutivo del último bloque reservado.
+     */
+    @Column(name = "block_last")
+    private Integer blockLast;
+
+    /**
+     * Fecha de expiración del último bloque reservado.
+     * Después de esta fecha el nodo dueño ya no puede devolver el remanente.
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    // ===================================================================
+    // MÉTODOS DE NEGOCIO
+    // ===================================================================
+
+    /**
+     * Verifica si el nodo es dueño de un bloque vigente que termina en el último consecutivo reservado.
+     * Solo en ese caso el remanente puede devolverse sin dejar huecos para otros nodos.
+     *
+     * @param nodeId identificador del nodo
+     * @param now fecha actual
+     * @return true si el nodo puede devolver el remanente de su bloque
+     */
+    public boolean isTailOwnedBy(String nodeId, LocalDateTime now) {
+        return nodeId != null && nodeId.equals(ownerNode)
+                && blockLast != null && blockLast.equals(leasedUpTo)
+                && expiresAt != null && expiresAt.isAfter(now);
+    }
+
+    /**
+     * Limpia los datos del último bloque reservado.
+     */
+    public void clearBlock() {
+        this.ownerNode = null;
+        this.blockFirst = null;
+        this.blockLast = null;
+        this.expiresAt = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConsecutiveLease{id=%d, skuPrefix='%s', leasedUpTo=%d, ownerNode='%s', block=[%s..%s]}",
+                getId(), skuPrefix, leasedUpTo, ownerNode, blockFirst, blockLast);
+    }
+}
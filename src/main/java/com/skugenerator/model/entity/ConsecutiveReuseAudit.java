@@ -0,0 +1,80 @@
+package com.skugenerator.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de auditoría de un consecutivo reutilizado.
+ *
+ * Cuando la política de reutilización entrega de nuevo el consecutivo de un producto
+ * eliminado lógicamente, la fila del producto eliminado se borra para liberar su código
+ * SKU y sus datos quedan en esta tabla.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "consecutive_reuse_audit",
+        indexes = {
+                @Index(name = "idx_reuse_audit_sku_code", columnList = "sku_code"),
+                @Index(name = "idx_reuse_audit_prefix", columnList = "sku_prefix")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class ConsecutiveReuseAudit extends BaseEntity {
+
+    /**
+     * Código SKU reutilizado.
+     */
+    @NotBlank
+    @Column(name = "sku_code", length = 12, nullable = false, updatable = false)
+    private String skuCode;
+
+    /**
+     * Prefijo de atributos del SKU.
+     */
+    @NotBlank
+    @Column(name = "sku_prefix", length = 9, nullable = false, updatable = false)
+    private String skuPrefix;
+
+    /**
+     * Consecutivo reutilizado.
+     */
+    @NotNull
+    @Column(name = "consecutive", nullable = false, updatable = false)
+    private Integer consecutive;
+
+    /**
+     * Identificador del producto eliminado que tenía el código.
+     */
+    @Column(name = "previous_product_id", updatable = false)
+    private Long previousProductId;
+
+    /**
+     * Nombre del producto eliminado que tenía el código.
+     */
+    @Column(name = "previous_name", length = 255, updatable = false)
+    private String previousName;
+
+    /**
+     * Fecha en que se eliminó el producto anterior.
+     */
+    @Column(name = "released_at", updatable = false)
+    private LocalDateTime releasedAt;
+
+    @Override
+    public String toString() {
+        return String.format("ConsecutiveReuseAudit{skuCode='%s', previousProductId=%d, releasedAt=%s}",
+                skuCode, previousProductId, releasedAt);
+    }
+}
@@ -0,0 +1,82 @@
+package com.skugenerator.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que guarda la respuesta original de una solicitud de creación enviada con
+ * cabecera Idempotency-Key, para devolverla sin volver a ejecutarla si el cliente reintenta.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = {
+                @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_idempotency_key", columnNames = {"endpoint", "idempotency_key"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class IdempotencyRecord extends BaseEntity {
+
+    /**
+     * Endpoint al que pertenece la clave.
+     */
+    @NotBlank
+    @Column(name = "endpoint", length = 100, nullable = false, updatable = false)
+    private String endpoint;
+
+    /**
+     * Clave enviada por el cliente.
+     */
+    @NotBlank
+    @Column(name = "idempotency_key", length = 100, nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    /**
+     * Hash SHA-256 del cuerpo de la solicitud original, para detectar claves reutilizadas
+     * con otro contenido.
+     */
+    @NotBlank
+    @Column(name = "request_hash", length = 64, nullable = false, updatable = false)
+    private String requestHash;
+
+    /**
+     * Código HTTP de la respuesta original.
+     */
+    @NotNull
+    @Column(name = "status_code", nullable = false, updatable = false)
+    private Integer statusCode;
+
+    /**
+     * Cuerpo JSON de la respuesta original.
+     */
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT", updatable = false)
+    private String responseBody;
+
+    /**
+     * Fecha a partir de la cual la clave deja de ser válida.
+     */
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public String toString() {
+        return String.format("IdempotencyRecord{endpoint='%s', key='%s', status=%d, expiresAt=%s}",
+                endpoint, idempotencyKey, statusCode, expiresAt);
+    }
+}
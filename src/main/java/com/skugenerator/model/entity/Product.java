@@ -0,0 +1,218 @@
+package com.skugenerator.model.entity;
+
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.SkuCode;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Entidad que representa un producto con su código SKU generado.
+ *
+ * El código SKU de 12 dígitos se compone de un prefijo de 9 dígitos
+ * (tipo + categoría + subcategoría + talla + color + temporada) y un
+ * consecutivo de 3 dígitos único dentro de ese prefijo.
+ *
+ * Ejemplo: 110110205001
+ * - 110110205: prefijo de atributos
+ * - 001: primer producto con estas características
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "products",
+        indexes = {
+                @Index(name = "idx_product_sku_code", columnList = "sku_code"),
+                @Index(name = "idx_product_prefix_consecutive", columnList = "sku_prefix, consecutive"),
+                @Index(name = "idx_product_active", columnList = "active"),
+                @Index(name = "idx_product_name", columnList = "name"),
+                @Index(name = "idx_product_category", columnList = "category_id"),
+                @Index(name = "idx_product_subcategory", columnList = "subcategory_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_sku_code", columnNames = "sku_code")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class Product extends BaseEntity {
+
+    /**
+     * Código SKU completo de 12 dígitos.
+     * Es único en todo el sistema, incluyendo productos eliminados, salvo que la
+     * política de reutilización de consecutivos libere el código de un producto eliminado.
+     */
+    @NotBlank(message = "El código SKU es obligatorio")
+    @Pattern(regexp = Constants.SkuCodes.SKU_PATTERN,
+            message = "El código SKU debe tener 12 dígitos numéricos")
+    @Column(name = "sku_code", length = 12, nullable = false, unique = true, updatable = false)
+    private String skuCode;
+
+    /**
+     * Prefijo de atributos del SKU (primeros 9 dígitos).
+     * Se persiste por separado para consultar el consecutivo máximo por prefijo con índice.
+     */
+    @NotBlank(message = "El prefijo del SKU es obligatorio")
+    @Column(name = "sku_prefix", length = 9, nullable = false, updatable = false)
+    private String skuPrefix;
+
+    /**
+     * Consecutivo del producto dentro de su prefijo (001-999).
+     */
+    @NotNull(message = "El consecutivo es obligatorio")
+    @Min(value = Constants.SkuCodes.MIN_CONSECUTIVE_VALUE, message = "El consecutivo debe ser mayor a 0")
+    @Max(value = Constants.SkuCodes.MAX_CONSECUTIVE_VALUE, message = "El consecutivo no puede ser mayor a 999")
+    @Column(name = "consecutive", nullable = false, updatable = false)
+    private Integer consecutive;
+
+    /**
+     * Nombre descriptivo del producto.
+     */
+    @NotBlank(message = "El nombre del producto es obligatorio")
+    @jakarta.validation.constraints.Size(min = Constants.Validation.PRODUCT_NAME_MIN_LENGTH,
+            max = Constants.Validation.PRODUCT_NAME_MAX_LENGTH,
+            message = "El nombre debe tener entre {min} y {max} caracteres")
+    @Column(name = "name", length = 255, nullable = false)
+    private String name;
+
+    /**
+     * Descripción detallada del producto.
+     */
+    @jakarta.validation.constraints.Size(max = 1000, message = "La descripción no puede exceder los 1000 caracteres")
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    /**
+     * Tipo de producto (posición 1 del SKU).
+     */
+    @NotNull(message = "El tipo de producto es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_type_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_product_type"))
+    private ProductType productType;
+
+    /**
+     * Categoría (posiciones 2-3 del SKU).
+     */
+    @NotNull(message = "La categoría es obligatoria")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_category"))
+    private Category category;
+
+    /**
+     * Subcategoría (posición 4 del SKU).
+     */
+    @NotNull(message = "La subcategoría es obligatoria")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "subcategory_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_subcategory"))
+    private Subcategory subcategory;
+
+    /**
+     * Talla (posiciones 5-6 del SKU).
+     */
+    @NotNull(message = "La talla es obligatoria")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "size_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_size"))
+    private Size size;
+
+    /**
+     * Color (posiciones 7-8 del SKU).
+     */
+    @NotNull(message = "El color es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "color_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_color"))
+    private Color color;
+
+    /**
+     * Temporada (posición 9 del SKU).
+     */
+    @NotNull(message = "La temporada es obligatoria")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "season_id", nullable = false,
+            foreignKey = @ForeignKey(name = "fk_product_season"))
+    private Season season;
+
+    // ===================================================================
+    // MÉTODOS DE NEGOCIO
+    // ===================================================================
+
+    /**
+     * Obtiene el nombre completo con SKU para visualización.
+     *
+     * @return string en formato "sku - nombre"
+     */
+    public String getDisplayName() {
+        return String.format("%s - %s", skuCode, name);
+    }
+
+    /**
+     * Obtiene la descripción o una por defecto si no existe.
+     *
+     * @return descripción del producto o mensaje por defecto
+     */
+    public String getDescriptionOrDefault() {
+        return description != null && !description.trim().isEmpty()
+                ? description
+                : "Producto: " + name;
+    }
+
+    // ===================================================================
+    // MÉTODOS DE VALIDACIÓN
+    // ===================================================================
+
+    /**
+     * Valida que el SKU sea consistente con su prefijo y consecutivo.
+     *
+     * @return true si el SKU es válido
+     */
+    public boolean isValidSkuCode() {
+        long sku = SkuCode.parse(skuCode);
+        return sku != SkuCode.INVALID &&
+                skuPrefix != null &&
+                skuCode.startsWith(skuPrefix) &&
+                consecutive != null &&
+                SkuCode.consecutive(sku) == consecutive;
+    }
+
+    // ===================================================================
+    // MÉTODOS EQUALS, HASHCODE Y TOSTRING ESPECÍFICOS
+    // ===================================================================
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Product)) return false;
+
+        Product product = (Product) o;
+
+        // Si ambos tienen ID, comparar por ID
+        if (getId() != null && product.getId() != null) {
+            return getId().equals(product.getId());
+        }
+
+        // Si no tienen ID, comparar por SKU (business key)
+        return skuCode != null && skuCode.equals(product.skuCode);
+    }
+
+    @Override
+    public int hashCode() {
+        // Usar SKU como business key para hashCode
+        return skuCode != null ? skuCode.hashCode() : super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Product{id=%d, skuCode='%s', name='%s', active=%s}",
+                getId(), skuCode, name, getActive());
+    }
+}
@@ -0,0 +1,66 @@
+package com.skugenerator.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Entidad que representa un componente de un producto compuesto o de un set.
+ *
+ * Cada fila indica que el producto padre incluye cierta cantidad del producto componente.
+ * Un componente puede ser a su vez compuesto, de modo que la lista de materiales completa
+ * se obtiene expandiendo recursivamente los componentes.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "product_components",
+        indexes = {
+                @Index(name = "idx_product_component_component", columnList = "component_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_component", columnNames = {"parent_id", "component_id"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class ProductComponent extends BaseEntity {
+
+    /**
+     * Producto compuesto o set que contiene al componente.
+     */
+    @NotNull(message = "El producto padre es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "parent_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_product_component_parent"))
+    private Product parent;
+
+    /**
+     * Producto incluido en el padre.
+     */
+    @NotNull(message = "El componente es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "component_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_product_component_component"))
+    private Product component;
+
+    /**
+     * Unidades del componente por unidad del padre.
+     */
+    @NotNull(message = "La cantidad es obligatoria")
+    @Min(value = 1, message = "La cantidad debe ser mayor a 0")
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Override
+    public String toString() {
+        return String.format("ProductComponent{id=%d, quantity=%d}", getId(), quantity);
+    }
+}
@@ -8,6 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entidad que representa los tipos de producto en el sistema SKU Generator.
@@ -36,6 +40,8 @@ import lombok.experimental.SuperBuilder;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_product_type_code", columnNames = "code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.PRODUCT_TYPES_REGION)
+@NaturalIdCache(region = Constants.Cache.PRODUCT_TYPES_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +56,7 @@ public class ProductType extends BaseEntity {
     @NotBlank(message = "El código del tipo de producto es obligatorio")
     @Pattern(regexp = Constants.Validation.TYPE_CODE_PATTERN,
             message = "El código debe ser un solo dígito numérico (0-9)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 1, nullable = false, unique = true)
     private String code;
 
@@ -7,6 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.Month;
@@ -40,6 +44,8 @@ import java.time.Month;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_season_code", columnNames = "code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.SEASONS_REGION)
+@NaturalIdCache(region = Constants.Cache.SEASONS_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -54,6 +60,7 @@ public class Season extends BaseEntity {
     @NotBlank(message = "El código de la temporada es obligatorio")
     @Pattern(regexp = Constants.Validation.SEASON_CODE_PATTERN,
             message = "El código debe ser un solo dígito numérico (0-9)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 1, nullable = false, unique = true)
     private String code;
 
@@ -7,6 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entidad que representa las tallas disponibles en el sistema SKU Generator.
@@ -37,6 +41,8 @@ import lombok.experimental.SuperBuilder;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_size_code", columnNames = "code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.SIZES_REGION)
+@NaturalIdCache(region = Constants.Cache.SIZES_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +57,7 @@ public class Size extends BaseEntity {
     @NotBlank(message = "El código de la talla es obligatorio")
     @Pattern(regexp = Constants.Validation.SIZE_CODE_PATTERN,
             message = "El código debe ser de dos dígitos numéricos (00-99)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 2, nullable = false, unique = true)
     private String code;
 
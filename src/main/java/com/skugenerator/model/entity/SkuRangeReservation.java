@@ -0,0 +1,122 @@
+package com.skugenerator.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra un rango contiguo de consecutivos reservado para un proveedor.
+ *
+ * Los proveedores que imprimen las etiquetas antes de enviar la mercancía reservan
+ * [firstConsecutive..lastConsecutive] de un prefijo. El rango queda en estado RESERVED
+ * hasta que se confirma o se libera; si vence sin confirmarse se libera automáticamente.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Entity
+@Table(name = "sku_range_reservations",
+        indexes = {
+                @Index(name = "idx_sku_range_prefix_status", columnList = "sku_prefix, status"),
+                @Index(name = "idx_sku_range_status_expires", columnList = "status, expires_at"),
+                @Index(name = "idx_sku_range_supplier", columnList = "supplier_code")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@SuperBuilder
+public class SkuRangeReservation extends BaseEntity {
+
+    /**
+     * Prefijo de atributos del SKU (9 dígitos).
+     */
+    @NotBlank(message = "El prefijo del SKU es obligatorio")
+    @Column(name = "sku_prefix", length = 9, nullable = false, updatable = false)
+    private String skuPrefix;
+
+    /**
+     * Primer consecutivo del rango.
+     */
+    @NotNull
+    @Min(1)
+    @Column(name = "first_consecutive", nullable = false, updatable = false)
+    private Integer firstConsecutive;
+
+    /**
+     * Último consecutivo del rango (inclusive).
+     */
+    @NotNull
+    @Max(999)
+    @Column(name = "last_consecutive", nullable = false, updatable = false)
+    private Integer lastConsecutive;
+
+    /**
+     * Código del proveedor que reservó el rango.
+     */
+    @NotBlank(message = "El proveedor es obligatorio")
+    @Column(name = "supplier_code", length = 50, nullable = false, updatable = false)
+    private String supplierCode;
+
+    /**
+     * Estado de la reserva.
+     */
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    /**
+     * Fecha a partir de la cual una reserva no confirmada se libera.
+     */
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Enum para los estados de una reserva de rango.
+     */
+    public enum Status {
+        RESERVED("Reservado"),
+        CONFIRMED("Confirmado"),
+        RELEASED("Liberado"),
+        EXPIRED("Vencido");
+
+        private final String displayName;
+
+        Status(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS DE NEGOCIO
+    // ===================================================================
+
+    /**
+     * Cantidad de consecutivos del rango.
+     *
+     * @return tamaño del rango
+     */
+    public int size() {
+        return lastConsecutive - firstConsecutive + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SkuRangeReservation{id=%d, skuPrefix='%s', range=[%03d..%03d], supplier='%s', status=%s}",
+                getId(), skuPrefix, firstConsecutive, lastConsecutive, supplierCode, status);
+    }
+}
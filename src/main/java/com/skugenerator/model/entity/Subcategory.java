@@ -4,10 +4,15 @@ import com.skugenerator.util.Constants;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entidad que representa las subcategorías de producto en el sistema SKU Generator.
@@ -35,8 +40,11 @@ import lombok.experimental.SuperBuilder;
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_subcategory_category_code",
-                        columnNames = {"category_id", "code"})
+                        columnNames = {"category_id", "code"}),
+                @UniqueConstraint(name = "uk_subcategory_full_code", columnNames = "full_code")
         })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.Cache.SUBCATEGORIES_REGION)
+@NaturalIdCache(region = Constants.Cache.SUBCATEGORIES_NATURAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,6 +59,7 @@ public class Subcategory extends BaseEntity {
     @NotBlank(message = "El código de la subcategoría es obligatorio")
     @Pattern(regexp = Constants.Validation.SUBCATEGORY_CODE_PATTERN,
             message = "El código debe ser un solo dígito numérico (0-9)")
+    @NaturalId(mutable = true)
     @Column(name = "code", length = 1, nullable = false)
     private String code;
 
@@ -93,11 +102,22 @@ public class Subcategory extends BaseEntity {
      * Relación Many-to-One obligatoria.
      */
     @NotNull(message = "La categoría es obligatoria")
+    @NaturalId(mutable = true)
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "category_id", nullable = false,
             foreignKey = @ForeignKey(name = "fk_subcategory_category"))
     private Category category;
 
+    /**
+     * Código completo de 3 dígitos (categoría + subcategoría), tal como aparece en el SKU.
+     * Se desnormaliza para buscar por un índice único sin unir con categorías; lo
+     * mantienen {@link #syncFullCode()} y {@link Category#setCode(String)}, y no se asigna
+     * directamente.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "full_code", length = 3, nullable = false)
+    private String fullCode;
+
     /**
      * Palabras clave para búsqueda.
      * Separadas por comas para facilitar búsquedas.
@@ -148,9 +168,12 @@ public class Subcategory extends BaseEntity {
     /**
      * Obtiene el código completo (categoría + subcategoría).
      *
-     * @return string en formato "CC-S" (ej: "10-1")
+     * @return string en formato "CCS" (ej: "101")
      */
     public String getFullCode() {
+        if (fullCode != null) {
+            return fullCode;
+        }
         return category != null ? category.getCode() + code : code;
     }
 
@@ -295,6 +318,17 @@ public class Subcategory extends BaseEntity {
         }
     }
 
+    /**
+     * Recalcula el código completo antes de insertar o actualizar.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void syncFullCode() {
+        fullCode = category != null && category.getCode() != null && code != null
+                ? category.getCode() + code
+                : null;
+    }
+
     /**
      * Valida la consistencia antes de persistir.
      * Verifica que la subcategoría tenga una categoría válida.
@@ -1,10 +1,13 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.Category;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,14 +20,16 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends NaturalIdRepository<Category, Long> {
 
     /**
      * Buscar categoría por código.
      * @param code Código de la categoría
      * @return Optional con la categoría si existe
      */
-    Optional<Category> findByCode(String code);
+    default Optional<Category> findByCode(String code) {
+        return findBySimpleNaturalId(code);
+    }
 
     /**
      * Buscar categoría por código, incluyendo inactivas.
@@ -59,6 +64,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * Obtener todas las categorías activas ordenadas por displayOrder.
      * @return Lista de categorías activas ordenadas
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.ACTIVE_CATALOG_QUERY_REGION)
+    })
     List<Category> findByActiveTrueOrderByDisplayOrder();
 
     /**
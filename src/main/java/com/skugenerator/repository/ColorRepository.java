@@ -1,14 +1,18 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.Color;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,14 +21,16 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface ColorRepository extends JpaRepository<Color, Long> {
+public interface ColorRepository extends NaturalIdRepository<Color, Long> {
 
     /**
      * Buscar color por código.
      * @param code Código del color
      * @return Optional con el color si existe
      */
-    Optional<Color> findByCode(String code);
+    default Optional<Color> findByCode(String code) {
+        return findBySimpleNaturalId(code);
+    }
 
     /**
      * Buscar color por código, incluyendo inactivos.
@@ -55,10 +61,21 @@ public interface ColorRepository extends JpaRepository<Color, Long> {
      */
     List<Color> findByActiveTrue();
 
+    /**
+     * Obtener las colores activas con alguno de los códigos dados en una sola consulta.
+     * @param codes Códigos a buscar
+     * @return Lista de colores activas encontradas
+     */
+    List<Color> findByCodeInAndActiveTrue(Collection<String> codes);
+
     /**
      * Obtener todos los colores activos ordenados por displayOrder.
      * @return Lista de colores activos ordenados
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.ACTIVE_CATALOG_QUERY_REGION)
+    })
     List<Color> findByActiveTrueOrderByDisplayOrder();
 
     /**
@@ -0,0 +1,35 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.ConsecutiveLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio para la gestión de reservas de consecutivos por prefijo.
+ */
+@Repository
+public interface ConsecutiveLeaseRepository extends JpaRepository<ConsecutiveLease, Long> {
+
+    /**
+     * Buscar la reserva de un prefijo.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Optional con la reserva si existe
+     */
+    Optional<ConsecutiveLease> findBySkuPrefix(String skuPrefix);
+
+    /**
+     * Limpiar los bloques vencidos para que sus dueños ya no puedan devolverlos.
+     * @param now Fecha de referencia
+     * @return Cantidad de reservas actualizadas
+     */
+    @Modifying
+    @Query("UPDATE ConsecutiveLease l SET l.ownerNode = NULL, l.blockFirst = NULL, l.blockLast = NULL, " +
+            "l.expiresAt = NULL, l.version = l.version + 1 WHERE l.expiresAt < :now")
+    int expireBlocks(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.ConsecutiveReuseAudit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio para la auditoría de consecutivos reutilizados.
+ */
+@Repository
+public interface ConsecutiveReuseAuditRepository extends JpaRepository<ConsecutiveReuseAudit, Long> {
+
+    /**
+     * Obtener el historial de reutilizaciones de un código SKU.
+     * @param skuCode Código SKU de 12 dígitos
+     * @return Lista de reutilizaciones, la más reciente primero
+     */
+    List<ConsecutiveReuseAudit> findBySkuCodeOrderByCreatedDateDesc(String skuCode);
+}
@@ -0,0 +1,54 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositorio para las respuestas guardadas por clave de idempotencia.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * Buscar la respuesta guardada de una clave vigente.
+     * @param endpoint Endpoint de la solicitud
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param now Fecha de referencia
+     * @return Optional con el registro si existe y no ha expirado
+     */
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.endpoint = :endpoint " +
+            "AND r.idempotencyKey = :idempotencyKey AND r.expiresAt > :now")
+    Optional<IdempotencyRecord> findValid(@Param("endpoint") String endpoint,
+                                          @Param("idempotencyKey") String idempotencyKey,
+                                          @Param("now") LocalDateTime now);
+
+    /**
+     * Eliminar el registro expirado de una clave para poder volver a usarla.
+     * @param endpoint Endpoint de la solicitud
+     * @param idempotencyKey Clave enviada por el cliente
+     * @param now Fecha de referencia
+     * @return Cantidad de registros eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.endpoint = :endpoint " +
+            "AND r.idempotencyKey = :idempotencyKey AND r.expiresAt <= :now")
+    int deleteExpiredKey(@Param("endpoint") String endpoint,
+                         @Param("idempotencyKey") String idempotencyKey,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Eliminar las claves expiradas.
+     * @param now Fecha de referencia
+     * @return Cantidad de registros eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,60 @@
+package com.skugenerator.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Clase base de los repositorios con búsquedas por identificador natural.
+ *
+ * Extiende {@link SimpleJpaRepository} con las cargas por identificador natural de la
+ * sesión de Hibernate. En los identificadores compuestos, los atributos que son
+ * asociaciones reciben el id de la entidad asociada y se convierten en una referencia
+ * sin consultarla.
+ *
+ * @param <T> tipo de la entidad
+ * @param <ID> tipo del identificador
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Transactional(readOnly = true)
+public class NaturalIdJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+    private final Class<T> domainClass;
+
+    public NaturalIdJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+        this.domainClass = entityInformation.getJavaType();
+    }
+
+    @Override
+    public Optional<T> findBySimpleNaturalId(Object naturalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(domainClass).loadOptional(naturalId);
+    }
+
+    @Override
+    public Optional<T> findByNaturalId(Map<String, Object> naturalId) {
+        EntityType<T> entityType = entityManager.getMetamodel().entity(domainClass);
+        NaturalIdLoadAccess<T> access = entityManager.unwrap(Session.class).byNaturalId(domainClass);
+        naturalId.forEach((attribute, value) -> {
+            SingularAttribute<? super T, ?> mapped = entityType.getSingularAttribute(attribute);
+            if (mapped.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE) {
+                value = entityManager.getReference(mapped.getJavaType(), value);
+            }
+            access.using(attribute, value);
+        });
+        return access.loadOptional();
+    }
+}
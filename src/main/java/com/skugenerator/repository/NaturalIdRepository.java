@@ -0,0 +1,40 @@
+package com.skugenerator.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repositorio de entidades con identificador natural de Hibernate.
+ *
+ * Las búsquedas por identificador natural se resuelven primero en el contexto de
+ * persistencia y luego en la cache de identificadores naturales y en la de entidades,
+ * sin SQL cuando ambas tienen la entrada. La implementación es {@link NaturalIdJpaRepository},
+ * configurada como clase base de todos los repositorios.
+ *
+ * @param <T> tipo de la entidad
+ * @param <ID> tipo del identificador
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, ID> extends JpaRepository<T, ID> {
+
+    /**
+     * Buscar por un identificador natural de un solo atributo.
+     * @param naturalId valor del identificador natural
+     * @return Optional con la entidad si existe
+     */
+    Optional<T> findBySimpleNaturalId(Object naturalId);
+
+    /**
+     * Buscar por un identificador natural compuesto.
+     * @param naturalId valor de cada atributo del identificador natural; las asociaciones
+     *                  se indican con el id de la entidad asociada
+     * @return Optional con la entidad si existe
+     */
+    Optional<T> findByNaturalId(Map<String, Object> naturalId);
+}
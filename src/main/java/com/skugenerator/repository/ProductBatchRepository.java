@@ -0,0 +1,81 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Inserción masiva de productos con lotes JDBC.
+ *
+ * Los productos usan identificadores IDENTITY, con los que Hibernate desactiva el
+ * batching de inserts para conocer cada id generado. Para la generación masiva no se
+ * necesitan los ids, así que se insertan directamente con JdbcTemplate en lotes de
+ * hibernate.jdbc.batch_size filas, dentro de la transacción JPA activa.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Repository
+public class ProductBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO products (sku_code, sku_prefix, consecutive, name, description, " +
+            "product_type_id, category_id, subcategory_id, size_id, color_id, season_id, " +
+            "active, version, created_date, created_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}")
+    private int batchSize;
+
+    public ProductBatchRepository(JdbcTemplate jdbcTemplate, AuditorAware<String> auditorAware) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+    }
+
+    /**
+     * Inserta los productos en lotes. Los productos deben traer todas sus referencias
+     * de catálogo ya resueltas.
+     *
+     * @param products productos nuevos
+     * @return cantidad de productos insertados
+     */
+    public int insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String createdBy = auditorAware.getCurrentAuditor().orElse("system");
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, batchSize, (ps, product) -> {
+            ps.setString(1, product.getSkuCode());
+            ps.setString(2, product.getSkuPrefix());
+            ps.setInt(3, product.getConsecutive());
+            ps.setString(4, product.getName());
+            ps.setString(5, product.getDescription());
+            ps.setLong(6, product.getProductType().getId());
+            ps.setLong(7, product.getCategory().getId());
+            ps.setLong(8, product.getSubcategory().getId());
+            ps.setLong(9, product.getSize().getId());
+            ps.setLong(10, product.getColor().getId());
+            ps.setLong(11, product.getSeason().getId());
+            ps.setBoolean(12, true);
+            ps.setLong(13, 0L);
+            ps.setTimestamp(14, now);
+            ps.setString(15, createdBy);
+        });
+        log.debug("Insertados {} productos en lotes de {}", products.size(), batchSize);
+        return products.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.Product;
+import com.skugenerator.model.entity.ProductComponent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio para los componentes de productos compuestos y sets.
+ */
+@Repository
+public interface ProductComponentRepository extends JpaRepository<ProductComponent, Long> {
+
+    /**
+     * Obtener los componentes directos activos de un producto.
+     * @param skuCode Código SKU del producto padre
+     * @return Componentes con su cantidad, ordenados por SKU
+     */
+    @Query("SELECT c.component.skuCode AS skuCode, c.quantity AS quantity FROM ProductComponent c " +
+            "WHERE c.parent.skuCode = :skuCode AND c.active = true AND c.component.active = true " +
+            "ORDER BY c.component.skuCode")
+    List<ComponentView> findComponentsOf(@Param("skuCode") String skuCode);
+
+    /**
+     * Verificar si un producto aparece en alguna lista de materiales, como padre o componente.
+     * @param productId ID del producto
+     * @return true si alguna fila lo referencia
+     */
+    @Query("SELECT COUNT(c) > 0 FROM ProductComponent c WHERE c.parent.id = :productId OR c.component.id = :productId")
+    boolean isReferenced(@Param("productId") Long productId);
+
+    /**
+     * Eliminar todos los componentes de un producto.
+     * @param parent Producto padre
+     * @return Cantidad de filas eliminadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProductComponent c WHERE c.parent = :parent")
+    int deleteByParent(@Param("parent") Product parent);
+
+    /**
+     * Proyección de un componente directo.
+     */
+    interface ComponentView {
+        String getSkuCode();
+        Integer getQuantity();
+    }
+}
@@ -0,0 +1,54 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.util.LongIntHashMap;
+import com.skugenerator.util.SkuCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Consulta agrupada del consecutivo más alto de cada prefijo de SKU.
+ *
+ * Se recorre con JDBC directamente para fijar el fetch size del cursor y procesar las
+ * filas a medida que llegan, sin materializar la lista completa ni crear una proyección
+ * por prefijo. La consulta se resuelve con el índice (sku_prefix, consecutive).
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Repository
+public class ProductHighWaterMarkRepository {
+
+    private static final String HIGH_WATER_MARKS_SQL =
+            "SELECT sku_prefix, MAX(consecutive) FROM products GROUP BY sku_prefix";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductHighWaterMarkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Recorre el consecutivo más alto de cada prefijo, incluyendo productos eliminados.
+     *
+     * @param fetchSize filas por ida al servidor
+     * @param consumer recibe cada prefijo empaquetado y su consecutivo más alto
+     * @return cantidad de prefijos recorridos
+     */
+    public int scan(int fetchSize, LongIntHashMap.EntryConsumer consumer) {
+        int[] rows = new int[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(HIGH_WATER_MARKS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet resultSet) -> {
+            consumer.accept(SkuCode.parsePrefix(resultSet.getString(1)), resultSet.getInt(2));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+}
@@ -0,0 +1,154 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repositorio para la gestión de Productos.
+ * Proporciona métodos especializados para consultas y operaciones CRUD.
+ */
+@Repository
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /**
+     * Buscar producto por código SKU.
+     * @param skuCode Código SKU de 12 dígitos
+     * @return Optional con el producto si existe
+     */
+    Optional<Product> findBySkuCode(String skuCode);
+
+    /**
+     * Verificar si existe un producto con el código SKU dado.
+     * @param skuCode Código SKU a verificar
+     * @return true si existe, false en caso contrario
+     */
+    boolean existsBySkuCode(String skuCode);
+
+    /**
+     * Verificar si existe un producto activo con los mismos atributos y nombre.
+     * Utilizado por la detección de duplicados.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @param name Nombre del producto
+     * @return true si existe, false en caso contrario
+     */
+    boolean existsBySkuPrefixAndNameIgnoreCaseAndActiveTrue(String skuPrefix, String name);
+
+    /**
+     * Obtener el consecutivo más alto usado en un prefijo, incluyendo productos eliminados.
+     * Utilizado para inicializar el asignador de consecutivos en memoria.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Consecutivo máximo o 0 si el prefijo no tiene productos
+     */
+    @Query("SELECT COALESCE(MAX(p.consecutive), 0) FROM Product p WHERE p.skuPrefix = :skuPrefix")
+    Integer findMaxConsecutiveByPrefix(@Param("skuPrefix") String skuPrefix);
+
+    /**
+     * Obtener todos los consecutivos usados en un prefijo, incluyendo productos eliminados.
+     * Utilizado para construir el mapa de ocupación del prefijo.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Lista de consecutivos usados
+     */
+    @Query("SELECT p.consecutive FROM Product p WHERE p.skuPrefix = :skuPrefix")
+    List<Integer> findConsecutivesByPrefix(@Param("skuPrefix") String skuPrefix);
+
+    /**
+     * Obtener los consecutivos de productos eliminados de un prefijo con su fecha de eliminación.
+     * Utilizado para cargar la lista de consecutivos reutilizables.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Lista de consecutivos liberados
+     */
+    @Query("SELECT p.consecutive AS consecutive, COALESCE(p.modifiedDate, p.createdDate) AS releasedAt " +
+            "FROM Product p WHERE p.skuPrefix = :skuPrefix AND p.active = false")
+    List<ReleasedView> findReleasedByPrefix(@Param("skuPrefix") String skuPrefix);
+
+    /**
+     * Borrar físicamente un producto eliminado lógicamente para reutilizar su código SKU.
+     * @param id ID del producto
+     * @return 1 si se borró, 0 si el producto ya no existe o está activo
+     */
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id = :id AND p.active = false")
+    int deleteReleasedById(@Param("id") Long id);
+
+    /**
+     * Contar productos de un prefijo.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Cantidad de productos con el prefijo
+     */
+    long countBySkuPrefix(String skuPrefix);
+
+    /**
+     * Recorrer los datos de todos los productos necesarios para la detección de duplicados.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * @return Stream de huellas de productos
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.skuCode AS skuCode, p.skuPrefix AS skuPrefix, p.name AS name, p.active AS active FROM Product p")
+    Stream<FingerprintView> streamFingerprints();
+
+    /**
+     * Obtener los datos de consulta rápida de un producto por su SKU, sin cargar la entidad.
+     * @param skuCode Código SKU de 12 dígitos
+     * @return Optional con la proyección si existe
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.active AS active FROM Product p WHERE p.skuCode = :skuCode")
+    Optional<LookupView> findLookupBySkuCode(@Param("skuCode") String skuCode);
+
+    /**
+     * Recorrer el código y el nombre de los productos activos de una temporada, ordenados por SKU.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * @param seasonCode Código de la temporada
+     * @return Stream de etiquetas
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.skuCode AS skuCode, p.name AS name FROM Product p " +
+            "WHERE p.season.code = :seasonCode AND p.active = true ORDER BY p.skuCode")
+    Stream<LabelView> streamLabelsBySeasonCode(@Param("seasonCode") String seasonCode);
+
+    /**
+     * Proyección de un consecutivo liberado.
+     */
+    interface ReleasedView {
+        Integer getConsecutive();
+        LocalDateTime getReleasedAt();
+    }
+
+    /**
+     * Proyección con los campos que identifican a un producto.
+     */
+    interface FingerprintView {
+        String getSkuCode();
+        String getSkuPrefix();
+        String getName();
+        Boolean getActive();
+    }
+
+    /**
+     * Proyección con los datos impresos en la etiqueta de un producto.
+     */
+    interface LabelView {
+        String getSkuCode();
+        String getName();
+    }
+
+    /**
+     * Proyección con los datos que devuelve la consulta de un producto por SKU.
+     */
+    interface LookupView {
+        Long getId();
+        String getName();
+        Boolean getActive();
+    }
+}
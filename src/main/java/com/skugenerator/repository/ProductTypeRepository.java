@@ -1,10 +1,13 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.ProductType;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,14 +20,16 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface ProductTypeRepository extends JpaRepository<ProductType, Long> {
+public interface ProductTypeRepository extends NaturalIdRepository<ProductType, Long> {
 
     /**
      * Buscar tipo de producto por código.
      * @param code Código del tipo de producto
      * @return Optional con el tipo de producto si existe
      */
-    Optional<ProductType> findByCode(String code);
+    default Optional<ProductType> findByCode(String code) {
+        return findBySimpleNaturalId(code);
+    }
 
     /**
      * Buscar tipo de producto por código, incluyendo inactivos.
@@ -59,6 +64,10 @@ public interface ProductTypeRepository extends JpaRepository<ProductType, Long>
      * Obtener todos los tipos de producto activos ordenados por displayOrder.
      * @return Lista de tipos de producto activos ordenados
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.ACTIVE_CATALOG_QUERY_REGION)
+    })
     List<ProductType> findByActiveTrueOrderByDisplayOrder();
 
     /**
@@ -1,17 +1,21 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.Season;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,14 +24,16 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface SeasonRepository extends JpaRepository<Season, Long> {
+public interface SeasonRepository extends NaturalIdRepository<Season, Long> {
 
     /**
      * Buscar temporada por código.
      * @param code Código de la temporada
      * @return Optional con la temporada si existe
      */
-    Optional<Season> findByCode(String code);
+    default Optional<Season> findByCode(String code) {
+        return findBySimpleNaturalId(code);
+    }
 
     /**
      * Buscar temporada por código, incluyendo inactivas.
@@ -58,10 +64,21 @@ public interface SeasonRepository extends JpaRepository<Season, Long> {
      */
     List<Season> findByActiveTrue();
 
+    /**
+     * Obtener las temporadas activas con alguno de los códigos dados en una sola consulta.
+     * @param codes Códigos a buscar
+     * @return Lista de temporadas activas encontradas
+     */
+    List<Season> findByCodeInAndActiveTrue(Collection<String> codes);
+
     /**
      * Obtener todas las temporadas activas ordenadas por displayOrder.
      * @return Lista de temporadas activas ordenadas
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.ACTIVE_CATALOG_QUERY_REGION)
+    })
     List<Season> findByActiveTrueOrderByDisplayOrder();
 
     /**
@@ -1,14 +1,18 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.Size;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,14 +21,16 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface SizeRepository extends JpaRepository<Size, Long> {
+public interface SizeRepository extends NaturalIdRepository<Size, Long> {
 
     /**
      * Buscar talla por código.
      * @param code Código de la talla
      * @return Optional con la talla si existe
      */
-    Optional<Size> findByCode(String code);
+    default Optional<Size> findByCode(String code) {
+        return findBySimpleNaturalId(code);
+    }
 
     /**
      * Buscar talla por código, incluyendo inactivas.
@@ -55,10 +61,21 @@ public interface SizeRepository extends JpaRepository<Size, Long> {
      */
     List<Size> findByActiveTrue();
 
+    /**
+     * Obtener las tallas activas con alguno de los códigos dados en una sola consulta.
+     * @param codes Códigos a buscar
+     * @return Lista de tallas activas encontradas
+     */
+    List<Size> findByCodeInAndActiveTrue(Collection<String> codes);
+
     /**
      * Obtener todas las tallas activas ordenadas por displayOrder.
      * @return Lista de tallas activas ordenadas
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.ACTIVE_CATALOG_QUERY_REGION)
+    })
     List<Size> findByActiveTrueOrderByDisplayOrder();
 
     /**
@@ -0,0 +1,102 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.SkuRangeReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para los rangos de consecutivos reservados por proveedores.
+ */
+@Repository
+public interface SkuRangeReservationRepository extends JpaRepository<SkuRangeReservation, Long> {
+
+    /**
+     * Obtener los rangos reservados o confirmados de un prefijo.
+     * @param skuPrefix Prefijo de 9 dígitos
+     * @return Rangos que ocupan consecutivos del prefijo
+     */
+    @Query("SELECT r.firstConsecutive AS firstConsecutive, r.lastConsecutive AS lastConsecutive " +
+            "FROM SkuRangeReservation r WHERE r.skuPrefix = :skuPrefix " +
+            "AND r.status IN (com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED, " +
+            "com.skugenerator.model.entity.SkuRangeReservation.Status.CONFIRMED)")
+    List<RangeView> findHeldRanges(@Param("skuPrefix") String skuPrefix);
+
+    /**
+     * Obtener el último consecutivo reservado o confirmado de cada prefijo.
+     * @return Prefijo y consecutivo más alto ocupado por rangos
+     */
+    @Query("SELECT r.skuPrefix AS skuPrefix, MAX(r.lastConsecutive) AS lastConsecutive " +
+            "FROM SkuRangeReservation r " +
+            "WHERE r.status IN (com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED, " +
+            "com.skugenerator.model.entity.SkuRangeReservation.Status.CONFIRMED) GROUP BY r.skuPrefix")
+    List<HighWaterMarkView> findHeldHighWaterMarks();
+
+    /**
+     * Obtener las reservas pendientes de confirmar entre los identificadores dados.
+     * @param ids Identificadores de las reservas
+     * @return Reservas en estado RESERVED, bloqueadas hasta terminar la transacción
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SkuRangeReservation r WHERE r.id IN :ids " +
+            "AND r.status = com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED")
+    List<SkuRangeReservation> findPendingByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtener las reservas pendientes cuyo vencimiento ya pasó.
+     * @param now Fecha de referencia
+     * @return Reservas vencidas aún en estado RESERVED, bloqueadas hasta terminar la transacción
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SkuRangeReservation r WHERE r.expiresAt < :now " +
+            "AND r.status = com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED")
+    List<SkuRangeReservation> findExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Confirmar en una sola sentencia las reservas pendientes que no han vencido.
+     * @param ids Identificadores de las reservas
+     * @param now Fecha de referencia
+     * @return Cantidad de reservas confirmadas
+     */
+    @Modifying
+    @Query("UPDATE SkuRangeReservation r SET r.status = com.skugenerator.model.entity.SkuRangeReservation.Status.CONFIRMED, " +
+            "r.version = r.version + 1 " +
+            "WHERE r.id IN :ids AND r.status = com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED " +
+            "AND r.expiresAt >= :now")
+    int confirm(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Liberar en una sola sentencia las reservas pendientes.
+     * @param ids Identificadores de las reservas
+     * @param status Estado final (RELEASED o EXPIRED)
+     * @return Cantidad de reservas liberadas
+     */
+    @Modifying
+    @Query("UPDATE SkuRangeReservation r SET r.status = :status, r.version = r.version + 1 " +
+            "WHERE r.id IN :ids AND r.status = com.skugenerator.model.entity.SkuRangeReservation.Status.RESERVED")
+    int release(@Param("ids") Collection<Long> ids, @Param("status") SkuRangeReservation.Status status);
+
+    /**
+     * Proyección de los límites de un rango.
+     */
+    interface RangeView {
+        Integer getFirstConsecutive();
+        Integer getLastConsecutive();
+    }
+
+    /**
+     * Proyección del consecutivo más alto ocupado por rangos en un prefijo.
+     */
+    interface HighWaterMarkView {
+        String getSkuPrefix();
+        Integer getLastConsecutive();
+    }
+}
@@ -1,15 +1,19 @@
 package com.skugenerator.repository;
 
 import com.skugenerator.model.entity.Subcategory;
+import com.skugenerator.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,7 +21,7 @@ import java.util.Optional;
  * Proporciona métodos especializados para consultas y operaciones CRUD.
  */
 @Repository
-public interface SubcategoryRepository extends JpaRepository<Subcategory, Long> {
+public interface SubcategoryRepository extends NaturalIdRepository<Subcategory, Long> {
 
     /**
      * Buscar subcategoría por código y categoría.
@@ -25,8 +29,9 @@ public interface SubcategoryRepository extends JpaRepository<Subcategory, Long>
      * @param categoryId ID de la categoría padre
      * @return Optional con la subcategoría si existe
      */
-    @Query("SELECT s FROM Subcategory s WHERE s.code = :code AND s.category.id = :categoryId")
-    Optional<Subcategory> findByCodeAndCategoryId(@Param("code") String code, @Param("categoryId") Long categoryId);
+    default Optional<Subcategory> findByCodeAndCategoryId(String code, Long categoryId) {
+        return findByNaturalId(Map.of("category", categoryId, "code", code));
+    }
 
     /**
      * Buscar subcategoría por código y categoría, incluyendo inactivas.
@@ -59,6 +64,10 @@ public interface SubcategoryRepository extends JpaRepository<Subcategory, Long>
      * @param categoryId ID de la categoría
      * @return Lista de subcategorías activas
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.Cache.SUBCATEGORIES_BY_CATEGORY_QUERY_REGION)
+    })
     @Query("SELECT s FROM Subcategory s WHERE s.category.id = :categoryId AND s.active = true ORDER BY s.displayOrder")
     List<Subcategory> findActiveByCategoryId(@Param("categoryId") Long categoryId);
 
@@ -76,6 +85,13 @@ public interface SubcategoryRepository extends JpaRepository<Subcategory, Long>
      */
     List<Subcategory> findByActiveTrue();
 
+    /**
+     * Obtener todas las subcategorías, activas e inactivas, con su categoría ya cargada.
+     * @return Lista de subcategorías con su categoría
+     */
+    @Query("SELECT s FROM Subcategory s JOIN FETCH s.category")
+    List<Subcategory> findAllWithCategory();
+
     /**
      * Obtener todas las subcategorías activas ordenadas por categoría y displayOrder.
      * @return Lista de subcategorías activas ordenadas
@@ -229,17 +245,17 @@ public interface SubcategoryRepository extends JpaRepository<Subcategory, Long>
 
     /**
      * Obtener subcategorías con el código completo (categoría + subcategoría).
-     * @return Lista de arrays [Subcategory, fullCode] donde fullCode es la concatenación
+     * @return Lista de arrays [Subcategory, fullCode] ordenada por la columna full_code
      */
-    @Query("SELECT s, CONCAT(s.category.code, s.code) as fullCode FROM Subcategory s WHERE s.active = true ORDER BY fullCode")
+    @Query("SELECT s, s.fullCode FROM Subcategory s WHERE s.active = true ORDER BY s.fullCode")
     List<Object[]> findActiveWithFullCode();
 
     /**
-     * Buscar subcategorías por código completo.
+     * Buscar subcategorías por código completo, usando el índice único de full_code.
      * @param fullCode Código completo (categoría + subcategoría)
      * @return Optional con la subcategoría si existe
      */
-    @Query("SELECT s FROM Subcategory s WHERE CONCAT(s.category.code, s.code) = :fullCode AND s.active = true")
+    @Query("SELECT s FROM Subcategory s WHERE s.fullCode = :fullCode AND s.active = true")
     Optional<Subcategory> findByFullCode(@Param("fullCode") String fullCode);
 
     /**
@@ -0,0 +1,201 @@
+package com.skugenerator.service.catalog;
+
+import com.skugenerator.model.entity.BaseEntity;
+import com.skugenerator.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica la {@link CatalogSnapshot} vigente de los seis catálogos que forman un SKU.
+ *
+ * La instantánea es inmutable y se reemplaza a través de una única referencia volátil:
+ * la generación y la validación de SKUs resuelven códigos con una lectura de arreglo, sin
+ * consultas, locks ni sincronización entre hilos.
+ *
+ * Cada pocos segundos se consultan con {@code findModifiedAfter} las filas modificadas
+ * desde la última marca de agua y se aplican sobre una copia de la instantánea. La
+ * consulta retrocede un margen respecto de la marca para no perder filas de transacciones
+ * que confirmaron tarde; las filas releídas se descartan por su versión. Las filas borradas
+ * físicamente no aparecen en esa consulta, así que la instantánea también se recarga
+ * completa con un intervalo más largo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class CatalogCodeIndex {
+
+    /** Marca de agua inicial, anterior a cualquier fila */
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String[] CATALOGS = {"product_type", "category", "subcategory", "size", "color", "season"};
+
+    private final ProductTypeRepository productTypeRepository;
+    private final CategoryRepository categoryRepository;
+    private final SubcategoryRepository subcategoryRepository;
+    private final SizeRepository sizeRepository;
+    private final ColorRepository colorRepository;
+    private final SeasonRepository seasonRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary[] deltaSizes = new DistributionSummary[CATALOGS.length];
+    private final Counter applied;
+    private final Counter stale;
+
+    @Value("${app.business.catalog.snapshot.overlap-ms:5000}")
+    private long overlapMillis;
+
+    private volatile CatalogSnapshot snapshot;
+
+    /** Mayor fecha de creación o modificación vista; solo se usa con el monitor tomado */
+    private LocalDateTime watermark;
+
+    private volatile long lastRefreshMillis = System.currentTimeMillis();
+
+    public CatalogCodeIndex(ProductTypeRepository productTypeRepository,
+                            CategoryRepository categoryRepository,
+                            SubcategoryRepository subcategoryRepository,
+                            SizeRepository sizeRepository,
+                            ColorRepository colorRepository,
+                            SeasonRepository seasonRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.productTypeRepository = productTypeRepository;
+        this.categoryRepository = categoryRepository;
+        this.subcategoryRepository = subcategoryRepository;
+        this.sizeRepository = sizeRepository;
+        this.colorRepository = colorRepository;
+        this.seasonRepository = seasonRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        for (int i = 0; i < CATALOGS.length; i++) {
+            deltaSizes[i] = DistributionSummary.builder("sku.catalog.snapshot.delta")
+                    .description("Filas modificadas leídas por catálogo en cada actualización incremental")
+                    .tag("catalog", CATALOGS[i])
+                    .register(meterRegistry);
+        }
+        this.applied = Counter.builder("sku.catalog.snapshot.rows")
+                .description("Filas aplicadas o descartadas por versión en la instantánea de catálogos")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.stale = Counter.builder("sku.catalog.snapshot.rows")
+                .description("Filas aplicadas o descartadas por versión en la instantánea de catálogos")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        TimeGauge.builder("sku.catalog.snapshot.lag", this, TimeUnit.MILLISECONDS,
+                        index -> System.currentTimeMillis() - index.lastRefreshMillis)
+                .description("Tiempo desde la última actualización correcta de la instantánea de catálogos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtiene la instantánea vigente, cargándola si todavía no existe.
+     *
+     * @return catálogos indexados por código
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Carga la instantánea al iniciar y la recarga completa periódicamente.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.business.catalog.snapshot.full-reload-interval-ms:3600000}",
+            initialDelayString = "${app.business.catalog.snapshot.full-reload-interval-ms:3600000}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * Aplica a la instantánea las filas modificadas desde la última marca de agua.
+     */
+    @Scheduled(fixedDelayString = "${app.business.catalog.snapshot.poll-interval-ms:2000}",
+            initialDelayString = "${app.business.catalog.snapshot.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        if (snapshot == null) {
+            reload();
+            return;
+        }
+        LocalDateTime since = watermark.minusNanos(TimeUnit.MILLISECONDS.toNanos(overlapMillis));
+        CatalogSnapshot.Merge merge = transactionTemplate.execute(status -> {
+            var productTypes = productTypeRepository.findModifiedAfter(since);
+            var categories = categoryRepository.findModifiedAfter(since);
+            var subcategories = subcategoryRepository.findModifiedAfter(since);
+            subcategories.forEach(subcategory -> Hibernate.initialize(subcategory.getCategory()));
+            var sizes = sizeRepository.findModifiedAfter(since);
+            var colors = colorRepository.findModifiedAfter(since);
+            var seasons = seasonRepository.findModifiedAfter(since);
+            List<List<? extends BaseEntity>> delta = List.of(productTypes, categories, subcategories, sizes, colors, seasons);
+            for (int i = 0; i < CATALOGS.length; i++) {
+                deltaSizes[i].record(delta.get(i).size());
+                delta.get(i).forEach(this::advanceWatermark);
+            }
+            return snapshot.merge(productTypes, categories, subcategories, sizes, colors, seasons);
+        });
+        snapshot = merge.snapshot();
+        lastRefreshMillis = System.currentTimeMillis();
+        applied.increment(merge.applied());
+        stale.increment(merge.stale());
+        if (merge.applied() > 0 || merge.stale() > 0) {
+            log.info("Instantánea de catálogos actualizada: {} filas aplicadas, {} obsoletas descartadas",
+                    merge.applied(), merge.stale());
+        }
+    }
+
+    /**
+     * Recarga la instantánea completa desde la base de datos.
+     *
+     * @return instantánea recargada
+     */
+    public synchronized CatalogSnapshot reload() {
+        long start = System.currentTimeMillis();
+        watermark = EPOCH;
+        CatalogSnapshot loaded = transactionTemplate.execute(status -> {
+            var productTypes = productTypeRepository.findAll();
+            var categories = categoryRepository.findAll();
+            var subcategories = subcategoryRepository.findAllWithCategory();
+            var sizes = sizeRepository.findAll();
+            var colors = colorRepository.findAll();
+            var seasons = seasonRepository.findAll();
+            for (List<? extends BaseEntity> rows : List.of(productTypes, categories, subcategories, sizes, colors, seasons)) {
+                rows.forEach(this::advanceWatermark);
+            }
+            return CatalogSnapshot.of(productTypes, categories, subcategories, sizes, colors, seasons);
+        });
+        snapshot = loaded;
+        lastRefreshMillis = System.currentTimeMillis();
+        log.debug("Instantánea de catálogos recargada en {} ms", System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private void advanceWatermark(BaseEntity row) {
+        LocalDateTime changed = row.getModifiedDate() != null ? row.getModifiedDate() : row.getCreatedDate();
+        if (changed != null && changed.isAfter(watermark)) {
+            watermark = changed;
+        }
+    }
+}
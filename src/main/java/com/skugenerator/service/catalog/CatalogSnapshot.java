@@ -0,0 +1,335 @@
+package com.skugenerator.service.catalog;
+
+import com.skugenerator.model.entity.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Copia inmutable de los seis catálogos que forman un SKU, indexada por código numérico.
+ *
+ * Cada catálogo es un arreglo denso cuya posición es el valor del código (las
+ * subcategorías por su código completo de 3 dígitos, categoría + subcategoría), así que
+ * resolver un código es una lectura de arreglo, sin locks ni objetos nuevos. Se guardan también los registros
+ * inactivos; los métodos {@code active*} y {@code is*Active} los filtran.
+ *
+ * Los cambios se aplican con {@link #merge}, que copia solo los arreglos de los catálogos
+ * modificados y deja intacta la instantánea original.
+ *
+ * Las entidades quedan desasociadas de la sesión que las cargó: solo se deben leer y
+ * usar como referencia de otras entidades, nunca modificar. Las subcategorías se cargan
+ * con su categoría.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class CatalogSnapshot {
+
+    static final int PRODUCT_TYPES = 10;
+    static final int CATEGORIES = 100;
+    static final int SUBCATEGORIES = 1000;
+    static final int SIZES = 100;
+    static final int COLORS = 100;
+    static final int SEASONS = 10;
+
+    private final ProductType[] productTypes;
+    private final Category[] categories;
+    private final Subcategory[] subcategories;
+    private final Size[] sizes;
+    private final Color[] colors;
+    private final Season[] seasons;
+
+    CatalogSnapshot(ProductType[] productTypes, Category[] categories, Subcategory[] subcategories,
+                    Size[] sizes, Color[] colors, Season[] seasons) {
+        this.productTypes = productTypes;
+        this.categories = categories;
+        this.subcategories = subcategories;
+        this.sizes = sizes;
+        this.colors = colors;
+        this.seasons = seasons;
+    }
+
+    /**
+     * Construye una instantánea con todos los registros de cada catálogo.
+     *
+     * Los registros con un código fuera de formato se ignoran.
+     *
+     * @return instantánea nueva
+     */
+    public static CatalogSnapshot of(List<ProductType> productTypes, List<Category> categories,
+                              List<Subcategory> subcategories, List<Size> sizes,
+                              List<Color> colors, List<Season> seasons) {
+        Subcategory[] subcategoryArray = new Subcategory[SUBCATEGORIES];
+        for (Subcategory subcategory : subcategories) {
+            int slot = subcategorySlot(subcategory);
+            if (slot >= 0) {
+                subcategoryArray[slot] = subcategory;
+            }
+        }
+        return new CatalogSnapshot(
+                index(productTypes, ProductType::getCode, new ProductType[PRODUCT_TYPES]),
+                index(categories, Category::getCode, new Category[CATEGORIES]),
+                subcategoryArray,
+                index(sizes, Size::getCode, new Size[SIZES]),
+                index(colors, Color::getCode, new Color[COLORS]),
+                index(seasons, Season::getCode, new Season[SEASONS]));
+    }
+
+    /**
+     * Aplica filas nuevas o modificadas sobre una copia de la instantánea.
+     *
+     * Una fila reemplaza al registro con el mismo id solo si su versión es mayor; las
+     * versiones iguales (filas releídas) se ignoran y las menores se descartan como
+     * obsoletas. Si el código de un registro cambió, se quita de su posición anterior.
+     *
+     * @return instantánea resultante (la misma si no hubo cambios) y contadores
+     */
+    Merge merge(List<ProductType> productTypes, List<Category> categories,
+                List<Subcategory> subcategories, List<Size> sizes,
+                List<Color> colors, List<Season> seasons) {
+        int[] counts = new int[2];
+        CatalogSnapshot merged = new CatalogSnapshot(
+                merge(this.productTypes, productTypes, row -> parse(row.getCode(), 1), counts),
+                merge(this.categories, categories, row -> parse(row.getCode(), 2), counts),
+                merge(this.subcategories, subcategories, CatalogSnapshot::subcategorySlot, counts),
+                merge(this.sizes, sizes, row -> parse(row.getCode(), 2), counts),
+                merge(this.colors, colors, row -> parse(row.getCode(), 2), counts),
+                merge(this.seasons, seasons, row -> parse(row.getCode(), 1), counts));
+        return new Merge(counts[APPLIED] > 0 ? merged : this, counts[APPLIED], counts[STALE]);
+    }
+
+    /**
+     * Resultado de {@link #merge}.
+     *
+     * @param snapshot instantánea con los cambios aplicados
+     * @param applied filas aplicadas
+     * @param stale filas descartadas por tener una versión anterior a la vigente
+     */
+    record Merge(CatalogSnapshot snapshot, int applied, int stale) {
+    }
+
+    // ===================================================================
+    // RESOLUCIÓN POR CÓDIGO NUMÉRICO
+    // ===================================================================
+
+    public ProductType productType(int code) {
+        return productTypes[code];
+    }
+
+    public Category category(int code) {
+        return categories[code];
+    }
+
+    public Subcategory subcategory(int categoryCode, int code) {
+        return subcategories[categoryCode * 10 + code];
+    }
+
+    /**
+     * @param fullCode código completo de 3 dígitos (categoría + subcategoría)
+     * @return subcategoría, activa o no, o null si no existe
+     */
+    public Subcategory subcategory(int fullCode) {
+        return subcategories[fullCode];
+    }
+
+    public Size size(int code) {
+        return sizes[code];
+    }
+
+    public Color color(int code) {
+        return colors[code];
+    }
+
+    public Season season(int code) {
+        return seasons[code];
+    }
+
+    public boolean isProductTypeActive(int code) {
+        return isActive(productTypes[code]);
+    }
+
+    public boolean isCategoryActive(int code) {
+        return isActive(categories[code]);
+    }
+
+    public boolean isSubcategoryActive(int categoryCode, int code) {
+        return isActive(subcategories[categoryCode * 10 + code]);
+    }
+
+    public boolean isSubcategoryActive(int fullCode) {
+        return isActive(subcategories[fullCode]);
+    }
+
+    public boolean isSizeActive(int code) {
+        return isActive(sizes[code]);
+    }
+
+    public boolean isColorActive(int code) {
+        return isActive(colors[code]);
+    }
+
+    public boolean isSeasonActive(int code) {
+        return isActive(seasons[code]);
+    }
+
+    // ===================================================================
+    // RESOLUCIÓN POR CÓDIGO TEXTUAL (SOLO REGISTROS ACTIVOS)
+    // ===================================================================
+
+    /**
+     * @param code código textual de 1 dígito
+     * @return tipo de producto activo, o null si no existe, está inactivo o el código no tiene formato válido
+     */
+    public ProductType activeProductType(String code) {
+        int value = parse(code, 1);
+        return value < 0 ? null : active(productTypes[value]);
+    }
+
+    /**
+     * @param code código textual de 2 dígitos
+     * @return categoría activa, o null si no existe, está inactiva o el código no tiene formato válido
+     */
+    public Category activeCategory(String code) {
+        int value = parse(code, 2);
+        return value < 0 ? null : active(categories[value]);
+    }
+
+    /**
+     * @param category categoría de la subcategoría
+     * @param code código textual de 1 dígito
+     * @return subcategoría activa, o null si no existe, está inactiva o el código no tiene formato válido
+     */
+    public Subcategory activeSubcategory(Category category, String code) {
+        int categoryCode = parse(category.getCode(), 2);
+        int value = parse(code, 1);
+        return categoryCode < 0 || value < 0 ? null : active(subcategories[categoryCode * 10 + value]);
+    }
+
+    /**
+     * @param fullCode código completo de 3 dígitos (categoría + subcategoría), como en el SKU
+     * @return subcategoría activa, o null si no existe, está inactiva o el código no tiene formato válido
+     */
+    public Subcategory activeSubcategory(String fullCode) {
+        int value = parse(fullCode, 3);
+        return value < 0 ? null : active(subcategories[value]);
+    }
+
+    /**
+     * @param code código textual de 2 dígitos
+     * @return talla activa, o null si no existe, está inactiva o el código no tiene formato válido
+     */
+    public Size activeSize(String code) {
+        int value = parse(code, 2);
+        return value < 0 ? null : active(sizes[value]);
+    }
+
+    /**
+     * @param code código textual de 2 dígitos
+     * @return color activo, o null si no existe, está inactivo o el código no tiene formato válido
+     */
+    public Color activeColor(String code) {
+        int value = parse(code, 2);
+        return value < 0 ? null : active(colors[value]);
+    }
+
+    /**
+     * @param code código textual de 1 dígito
+     * @return temporada activa, o null si no existe, está inactiva o el código no tiene formato válido
+     */
+    public Season activeSeason(String code) {
+        int value = parse(code, 1);
+        return value < 0 ? null : active(seasons[value]);
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Convierte un código de exactamente {@code digits} dígitos a su valor numérico.
+     *
+     * @return valor del código, o -1 si es nulo o no tiene el formato esperado
+     */
+    static int parse(String code, int digits) {
+        if (code == null || code.length() != digits) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = code.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @return posición de la subcategoría en su arreglo, o -1 si algún código no tiene formato válido
+     */
+    static int subcategorySlot(Subcategory subcategory) {
+        return parse(subcategory.getFullCode(), 3);
+    }
+
+    private static <T> T[] index(List<T> entities, Function<T, String> codeOf, T[] slots) {
+        int digits = slots.length == 10 ? 1 : 2;
+        for (T entity : entities) {
+            int code = parse(codeOf.apply(entity), digits);
+            if (code >= 0) {
+                slots[code] = entity;
+            }
+        }
+        return slots;
+    }
+
+    private static final int APPLIED = 0;
+    private static final int STALE = 1;
+
+    /**
+     * Aplica las filas sobre una copia del arreglo, creada solo si alguna fila se aplica.
+     */
+    private static <T extends BaseEntity> T[] merge(T[] current, List<T> rows, ToIntFunction<T> slotOf, int[] counts) {
+        T[] next = current;
+        for (T row : rows) {
+            int previous = indexOf(next, row.getId());
+            if (previous >= 0 && next[previous].getVersion() >= row.getVersion()) {
+                if (next[previous].getVersion() > row.getVersion()) {
+                    counts[STALE]++;
+                }
+                continue;
+            }
+            if (next == current) {
+                next = current.clone();
+            }
+            if (previous >= 0) {
+                next[previous] = null;
+            }
+            int slot = slotOf.applyAsInt(row);
+            if (slot >= 0) {
+                next[slot] = row;
+            }
+            counts[APPLIED]++;
+        }
+        return next;
+    }
+
+    private static int indexOf(BaseEntity[] slots, Long id) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null && slots[i].getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isActive(BaseEntity entity) {
+        return entity != null && entity.isActive();
+    }
+
+    private static <T extends BaseEntity> T active(T entity) {
+        return isActive(entity) ? entity : null;
+    }
+}
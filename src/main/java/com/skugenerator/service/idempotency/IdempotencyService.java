@@ -0,0 +1,225 @@
+package com.skugenerator.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skugenerator.exception.IdempotencyKeyReuseException;
+import com.skugenerator.model.entity.IdempotencyRecord;
+import com.skugenerator.repository.IdempotencyRecordRepository;
+import com.skugenerator.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Soporte de la cabecera Idempotency-Key en los endpoints de creación.
+ *
+ * La primera solicitud con una clave se ejecuta y su respuesta se guarda en la tabla
+ * idempotency_keys dentro de la misma transacción que los productos creados: o se guardan
+ * ambos o ninguno. Las respuestas recientes se mantienen además en una caché Caffeine
+ * acotada, así que un reintento del cliente se responde sin consultar la base de datos,
+ * sin asignar consecutivos y sin insertar de nuevo.
+ *
+ * Si dos solicitudes con la misma clave llegan a la vez al mismo nodo, la segunda espera
+ * el resultado de la primera. Si llegan a nodos distintos, la restricción única de la tabla
+ * revierte la segunda y se responde con la respuesta ya guardada.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, StoredResponse> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${app.business.idempotency.cache-size:10000}") long cacheSize,
+                              @Value("${app.business.idempotency.ttl-hours:24}") long ttlHours) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Ejecuta la operación una sola vez por clave y devuelve la respuesta original en los reintentos.
+     *
+     * @param endpoint identificador del endpoint
+     * @param idempotencyKey clave enviada por el cliente, o null para ejecutar sin idempotencia
+     * @param request cuerpo de la solicitud
+     * @param operation operación que crea los recursos
+     * @return respuesta original o repetida
+     * @throws IdempotencyKeyReuseException si la clave ya se usó con otro cuerpo
+     */
+    public ResponseEntity<?> execute(String endpoint, String idempotencyKey, Object request,
+                                     Supplier<ResponseEntity<?>> operation) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return operation.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("La clave de idempotencia no puede exceder " + MAX_KEY_LENGTH + " caracteres");
+        }
+        String cacheKey = endpoint + ':' + idempotencyKey;
+        String requestHash = hash(request);
+
+        StoredResponse stored = lookup(endpoint, idempotencyKey, cacheKey);
+        if (stored != null) {
+            return replay(stored, idempotencyKey, requestHash);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return replay(await(running), idempotencyKey, requestHash);
+        }
+        try {
+            StoredResponse result;
+            ResponseEntity<?> response;
+            try {
+                ExecutionResult execution = transactionTemplate.execute(status -> {
+                    ResponseEntity<?> created = operation.get();
+                    StoredResponse toStore = new StoredResponse(requestHash, created.getStatusCode().value(),
+                            toJson(created.getBody()));
+                    // La limpieza periódica puede no haber borrado aún el registro expirado de la clave
+                    repository.deleteExpiredKey(endpoint, idempotencyKey, LocalDateTime.now());
+                    repository.saveAndFlush(IdempotencyRecord.builder()
+                            .endpoint(endpoint)
+                            .idempotencyKey(idempotencyKey)
+                            .requestHash(requestHash)
+                            .statusCode(toStore.statusCode())
+                            .responseBody(toStore.body())
+                            .expiresAt(LocalDateTime.now().plus(ttl))
+                            .build());
+                    return new ExecutionResult(created, toStore);
+                });
+                response = execution.response();
+                result = execution.stored();
+            } catch (DataIntegrityViolationException e) {
+                // Otro nodo guardó la misma clave primero; esta ejecución ya se revirtió
+                result = repository.findValid(endpoint, idempotencyKey, LocalDateTime.now())
+                        .map(StoredResponse::of)
+                        .orElseThrow(() -> e);
+                response = replay(result, idempotencyKey, requestHash);
+            }
+            cache.put(cacheKey, result);
+            mine.complete(result);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * Elimina periódicamente las claves expiradas de la tabla.
+     */
+    @Scheduled(fixedDelayString = "${app.business.idempotency.cleanup-ms:3600000}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("{} claves de idempotencia expiradas eliminadas", deleted);
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private StoredResponse lookup(String endpoint, String idempotencyKey, String cacheKey) {
+        StoredResponse stored = cache.getIfPresent(cacheKey);
+        if (stored == null) {
+            stored = repository.findValid(endpoint, idempotencyKey, LocalDateTime.now())
+                    .map(StoredResponse::of)
+                    .orElse(null);
+            if (stored != null) {
+                cache.put(cacheKey, stored);
+            }
+        }
+        return stored;
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String idempotencyKey, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(idempotencyKey);
+        }
+        log.debug("Solicitud repetida con clave de idempotencia {}", idempotencyKey);
+        return ResponseEntity.status(stored.statusCode())
+                .header(Constants.Api.HEADER_IDEMPOTENT_REPLAYED, "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stored.body());
+    }
+
+    private static StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo calcular el hash de la solicitud", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la respuesta", e);
+        }
+    }
+
+    /**
+     * Respuesta guardada para una clave.
+     */
+    private record StoredResponse(String requestHash, int statusCode, String body) {
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getRequestHash(), record.getStatusCode(), record.getResponseBody());
+        }
+    }
+
+    private record ExecutionResult(ResponseEntity<?> response, StoredResponse stored) {
+    }
+}
@@ -0,0 +1,466 @@
+package com.skugenerator.service.label;
+
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Dibujo de etiquetas con código de barras EAN-13 en PNG o SVG, sin pantalla (Java2D headless).
+ *
+ * Los 12 dígitos del SKU más su dígito de control forman el EAN-13. Las franjas de barras
+ * de cada dígito en cada juego de codificación (L, G y R), las guardas y los dígitos
+ * legibles se dibujan una sola vez al construir el componente; cada etiqueta solo copia
+ * esas franjas en su posición. El nombre del producto es lo único variable que lleva
+ * texto, y sus caracteres también se dibujan una sola vez y se reutilizan. El PNG se
+ * codifica en escala de grises de 1 bit sin pasar por ImageIO.
+ *
+ * Es seguro usarlo desde varios hilos: las franjas en caché solo se leen y los caracteres del nombre se guardan en un mapa concurrente.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class BarcodeLabelRenderer {
+
+    // ===== TABLAS EAN-13 =====
+
+    private static final int DIGIT_MODULES = 7;
+    private static final int QUIET_ZONE_MODULES = 11;
+    private static final int BARCODE_MODULES = 95;
+
+    /** Codificación L (impar) de cada dígito; G es la inversa de R y R el complemento de L */
+    private static final String[] L_CODES = {
+            "0001101", "0011001", "0010011", "0111101", "0100011",
+            "0110001", "0101111", "0111011", "0110111", "0001011"};
+
+    /** Juego (L o G) de cada dígito del grupo izquierdo según el primer dígito */
+    private static final String[] PARITY = {
+            "LLLLLL", "LLGLGG", "LLGGLG", "LLGGGL", "LGLLGG",
+            "LGGLLG", "LGGGLL", "LGLGLG", "LGLGGL", "LGGLGL"};
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private static final String START_GUARD = "101";
+    private static final String CENTER_GUARD = "01010";
+    private static final String END_GUARD = "101";
+
+    private static final int SET_L = 0;
+    private static final int SET_G = 1;
+    private static final int SET_R = 2;
+    private static final String[][] CODES = new String[3][10];
+
+    static {
+        for (int digit = 0; digit < 10; digit++) {
+            String l = L_CODES[digit];
+            String r = complement(l);
+            CODES[SET_L][digit] = l;
+            CODES[SET_R][digit] = r;
+            CODES[SET_G][digit] = new StringBuilder(r).reverse().toString();
+        }
+    }
+
+    // ===== GEOMETRÍA =====
+
+    private final int module;
+    private final int barHeight;
+    private final int guardExtension;
+    private final int nameHeight;
+    private final int digitHeight;
+    private final int width;
+    private final int height;
+    private final int stride;
+    private final int barTop;
+    private final Font nameFont;
+    private final Font digitFont;
+
+    // ===== FRANJAS EN CACHÉ =====
+
+    /** Píxeles oscuros de las barras de cada dígito por juego, de ancho 7 módulos */
+    private final boolean[][][] barStrips = new boolean[3][10][];
+    private final boolean[] startGuard;
+    private final boolean[] centerGuard;
+    private final boolean[] endGuard;
+    /** Fila empaquetada con solo las guardas, para la extensión bajo las barras */
+    private final byte[] guardRow;
+    /** Dígitos legibles bajo las barras */
+    private final Glyph[] digitGlyphs = new Glyph[10];
+    /** Caracteres del nombre, dibujados la primera vez que aparecen */
+    private final ConcurrentHashMap<Character, Glyph> nameGlyphs = new ConcurrentHashMap<>();
+    private final FontMetrics nameMetrics;
+    private final FontMetrics digitMetrics;
+    private final String[][] svgStrips = new String[3][10];
+    private final String svgGuards;
+
+    public BarcodeLabelRenderer(@Value("${app.business.label.module-width-px:2}") int module,
+                                @Value("${app.business.label.bar-height-px:80}") int barHeight) {
+        this.module = module;
+        this.barHeight = barHeight;
+        this.guardExtension = 5 * module;
+        this.nameHeight = 18;
+        this.digitHeight = 16;
+        this.width = (QUIET_ZONE_MODULES * 2 + BARCODE_MODULES) * module;
+        this.stride = (width + 7) / 8;
+        this.barTop = nameHeight + 4;
+        this.height = barTop + barHeight + digitHeight + 4;
+        this.nameFont = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+        this.digitFont = new Font(Font.MONOSPACED, Font.BOLD, 14);
+
+        for (int set = 0; set < 3; set++) {
+            for (int digit = 0; digit < 10; digit++) {
+                barStrips[set][digit] = strip(CODES[set][digit]);
+                svgStrips[set][digit] = svgRects(CODES[set][digit], barHeight);
+            }
+        }
+        this.startGuard = strip(START_GUARD);
+        this.centerGuard = strip(CENTER_GUARD);
+        this.endGuard = strip(END_GUARD);
+        this.guardRow = whiteRow();
+        paint(guardRow, guardX(0), startGuard);
+        paint(guardRow, guardX(1), centerGuard);
+        paint(guardRow, guardX(2), endGuard);
+
+        this.nameMetrics = metrics(nameFont);
+        this.digitMetrics = metrics(digitFont);
+        for (int digit = 0; digit < 10; digit++) {
+            digitGlyphs[digit] = glyph((char) ('0' + digit), digitFont, digitMetrics, digitHeight);
+        }
+        this.svgGuards = svgGuard(START_GUARD, guardX(0)) + svgGuard(CENTER_GUARD, guardX(1)) + svgGuard(END_GUARD, guardX(2));
+        log.info("Renderizador de etiquetas EAN-13 inicializado: {}x{} px", width, height);
+    }
+
+    // ===================================================================
+    // RENDERIZADO
+    // ===================================================================
+
+    /**
+     * Dibuja la etiqueta de un SKU.
+     *
+     * @param sku SKU empaquetado
+     * @param name nombre del producto, o null para omitirlo
+     * @param format formato de salida
+     * @return bytes de la imagen
+     */
+    public byte[] render(long sku, String name, LabelFormat format) {
+        int[] digits = ean13Digits(sku);
+        return format == LabelFormat.PNG ? png(digits, name) : svg(digits, name);
+    }
+
+    /**
+     * Arma la imagen de 1 bit por píxel escribiendo directamente en el raster: las barras
+     * son verticales, así que se arma una sola fila y se copia en toda la altura, y el texto
+     * se compone con los caracteres en caché.
+     */
+    private byte[] png(int[] digits, String name) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, (byte) 0xFF);
+        if (name != null) {
+            String text = fit(name);
+            int x = QUIET_ZONE_MODULES * module;
+            for (int i = 0; i < text.length(); i++) {
+                Glyph glyph = nameGlyph(text.charAt(i));
+                stamp(pixels, x, 0, glyph.pixels());
+                x += glyph.advance();
+            }
+        }
+
+        byte[] barRow = guardRow.clone();
+        String parity = PARITY[digits[0]];
+        for (int i = 1; i <= 12; i++) {
+            int set = i <= 6 ? (parity.charAt(i - 1) == 'L' ? SET_L : SET_G) : SET_R;
+            paint(barRow, barX(i), barStrips[set][digits[i]]);
+        }
+        for (int y = barTop; y < barTop + barHeight; y++) {
+            System.arraycopy(barRow, 0, pixels, y * stride, stride);
+        }
+        for (int y = barTop + barHeight; y < barTop + barHeight + guardExtension; y++) {
+            System.arraycopy(guardRow, 0, pixels, y * stride, stride);
+        }
+
+        int textTop = barTop + barHeight + 2;
+        stamp(pixels, (QUIET_ZONE_MODULES - 8) * module, textTop, digitGlyphs[digits[0]].pixels());
+        for (int i = 1; i <= 12; i++) {
+            stamp(pixels, digitX(i), textTop, digitGlyphs[digits[i]].pixels());
+        }
+        return encodePng(pixels);
+    }
+
+    private byte[] svg(int[] digits, String name) {
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height).append("\" viewBox=\"0 0 ").append(width).append(' ').append(height)
+                .append("\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>");
+        if (name != null) {
+            sb.append("<text x=\"").append(QUIET_ZONE_MODULES * module).append("\" y=\"").append(nameHeight - 4)
+                    .append("\" font-family=\"sans-serif\" font-size=\"12\">");
+            escapeXml(fit(name), sb);
+            sb.append("</text>");
+        }
+        sb.append("<g fill=\"#000\">").append(svgGuards);
+        String parity = PARITY[digits[0]];
+        for (int i = 1; i <= 12; i++) {
+            int set = i <= 6 ? (parity.charAt(i - 1) == 'L' ? SET_L : SET_G) : SET_R;
+            sb.append("<g transform=\"translate(").append(barX(i)).append(',').append(barTop).append(")\">")
+                    .append(svgStrips[set][digits[i]]).append("</g>");
+        }
+        sb.append("</g><text y=\"").append(barTop + barHeight + digitHeight)
+                .append("\" font-family=\"monospace\" font-weight=\"bold\" font-size=\"14\">");
+        sb.append("<tspan x=\"").append((QUIET_ZONE_MODULES - 8) * module).append("\">").append(digits[0]).append("</tspan>");
+        for (int i = 1; i <= 12; i++) {
+            sb.append("<tspan x=\"").append(digitX(i)).append("\">").append(digits[i]).append("</tspan>");
+        }
+        sb.append("</text></svg>");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private static int[] ean13Digits(long sku) {
+        int[] digits = new int[13];
+        long remaining = SkuCode.toEan13(sku);
+        for (int i = 12; i >= 0; i--) {
+            digits[i] = (int) (remaining % 10);
+            remaining /= 10;
+        }
+        return digits;
+    }
+
+    /** Posición x de las barras del dígito i (1-12) del EAN-13 */
+    private int barX(int i) {
+        int modules = QUIET_ZONE_MODULES + START_GUARD.length() + (i - 1) * DIGIT_MODULES;
+        if (i > 6) {
+            modules += CENTER_GUARD.length();
+        }
+        return modules * module;
+    }
+
+    /** Posición x de la guarda 0 (inicio), 1 (centro) o 2 (fin) */
+    private int guardX(int guard) {
+        return switch (guard) {
+            case 0 -> QUIET_ZONE_MODULES * module;
+            case 1 -> barX(7) - CENTER_GUARD.length() * module;
+            default -> barX(12) + DIGIT_MODULES * module;
+        };
+    }
+
+    /** Posición x del dígito legible i, centrado bajo sus barras */
+    private int digitX(int i) {
+        return barX(i) + (DIGIT_MODULES * module - digitGlyphs[0].advance()) / 2;
+    }
+
+    private boolean[] strip(String pattern) {
+        boolean[] strip = new boolean[pattern.length() * module];
+        for (int x = 0; x < strip.length; x++) {
+            strip[x] = pattern.charAt(x / module) == '1';
+        }
+        return strip;
+    }
+
+    private Glyph nameGlyph(char c) {
+        return nameGlyphs.computeIfAbsent(c, key -> glyph(key, nameFont, nameMetrics, nameHeight));
+    }
+
+    /** Dibuja un carácter una sola vez y guarda sus píxeles oscuros */
+    private static Glyph glyph(char c, Font font, FontMetrics metrics, int glyphHeight) {
+        int advance = Math.max(metrics.charWidth(c), 1);
+        BufferedImage image = new BufferedImage(advance, glyphHeight, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, advance, glyphHeight);
+            g.setColor(Color.BLACK);
+            g.setFont(font);
+            g.drawString(String.valueOf(c), 0, Math.min(metrics.getAscent(), glyphHeight - 4));
+        } finally {
+            g.dispose();
+        }
+        boolean[][] pixels = new boolean[glyphHeight][advance];
+        for (int y = 0; y < glyphHeight; y++) {
+            for (int x = 0; x < advance; x++) {
+                pixels[y][x] = image.getRaster().getSample(x, y, 0) < 128;
+            }
+        }
+        return new Glyph(advance, pixels);
+    }
+
+    private static FontMetrics metrics(Font font) {
+        Graphics2D g = new BufferedImage(1, 1, BufferedImage.TYPE_BYTE_GRAY).createGraphics();
+        try {
+            return g.getFontMetrics(font);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private byte[] whiteRow() {
+        byte[] row = new byte[stride];
+        Arrays.fill(row, (byte) 0xFF);
+        return row;
+    }
+
+    /** Oscurece en una fila empaquetada los píxeles de la franja a partir de x */
+    private static void paint(byte[] row, int x, boolean[] strip) {
+        for (int i = 0; i < strip.length; i++) {
+            if (strip[i]) {
+                int px = x + i;
+                row[px >> 3] &= (byte) ~(0x80 >>> (px & 7));
+            }
+        }
+    }
+
+    /** Oscurece en la imagen los píxeles del dígito con esquina superior izquierda en (x, y) */
+    private void stamp(byte[] pixels, int x, int y, boolean[][] glyph) {
+        for (int gy = 0; gy < glyph.length; gy++) {
+            int offset = (y + gy) * stride;
+            for (int gx = 0; gx < glyph[gy].length; gx++) {
+                if (glyph[gy][gx]) {
+                    int px = x + gx;
+                    pixels[offset + (px >> 3)] &= (byte) ~(0x80 >>> (px & 7));
+                }
+            }
+        }
+    }
+
+    /**
+     * Codifica el raster como PNG en escala de grises de 1 bit, sin filtros por fila y con la
+     * compresión más rápida. Evita el registro de ImageIO, que por etiqueta cuesta más que
+     * dibujarla.
+     */
+    private byte[] encodePng(byte[] pixels) {
+        byte[] raw = new byte[(stride + 1) * height];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(pixels, y * stride, raw, y * (stride + 1) + 1, stride);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.writeBytes(PNG_SIGNATURE);
+
+        ByteBuffer header = ByteBuffer.allocate(13);
+        header.putInt(width).putInt(height).put((byte) 1).put((byte) 0).put((byte) 0).put((byte) 0).put((byte) 0);
+        chunk(out, "IHDR", header.array(), header.array().length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] compressed = new byte[raw.length / 2 + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            chunk(out, "IDAT", compressed, length);
+        } finally {
+            deflater.end();
+        }
+        chunk(out, "IEND", new byte[0], 0);
+        return out.toByteArray();
+    }
+
+    private static void chunk(ByteArrayOutputStream out, String type, byte[] data, int length) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        writeInt(out, length);
+        out.writeBytes(typeBytes);
+        out.write(data, 0, length);
+        writeInt(out, (int) crc.getValue());
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private String svgRects(String pattern, int stripHeight) {
+        StringBuilder sb = new StringBuilder();
+        int m = 0;
+        while (m < pattern.length()) {
+            if (pattern.charAt(m) == '1') {
+                int start = m;
+                while (m < pattern.length() && pattern.charAt(m) == '1') {
+                    m++;
+                }
+                sb.append("<rect x=\"").append(start * module).append("\" width=\"").append((m - start) * module)
+                        .append("\" height=\"").append(stripHeight).append("\"/>");
+            } else {
+                m++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private String svgGuard(String pattern, int x) {
+        return "<g transform=\"translate(" + x + "," + barTop + ")\">" + svgRects(pattern, barHeight + guardExtension) + "</g>";
+    }
+
+    /** Recorta el nombre con puntos suspensivos si no cabe entre las zonas de silencio */
+    private String fit(String name) {
+        int available = width - 2 * QUIET_ZONE_MODULES * module;
+        int ellipsis = nameGlyph('…').advance();
+        int used = 0;
+        int end = -1;
+        for (int i = 0; i < name.length(); i++) {
+            used += nameGlyph(name.charAt(i)).advance();
+            if (end < 0 && used + ellipsis > available) {
+                end = i;
+            }
+            if (used > available) {
+                return name.substring(0, end) + "…";
+            }
+        }
+        return name;
+    }
+
+    private static void escapeXml(String text, StringBuilder sb) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    private static String complement(String pattern) {
+        StringBuilder sb = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            sb.append(pattern.charAt(i) == '1' ? '0' : '1');
+        }
+        return sb.toString();
+    }
+
+    private record Glyph(int advance, boolean[][] pixels) {
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,169 @@
+package com.skugenerator.service.label;
+
+import com.skugenerator.exception.CatalogNotFoundException;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.repository.SeasonRepository;
+import com.skugenerator.util.SkuCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Impresión masiva de etiquetas EAN-13 empaquetadas en un ZIP por streaming.
+ *
+ * Los productos de la temporada se leen con un stream de base de datos y cada etiqueta
+ * se dibuja en un pool acotado de hilos. Se mantiene una ventana de etiquetas en curso
+ * del tamaño de la cola: las entradas se escriben al ZIP en el orden del SKU apenas
+ * termina la más antigua, y si la ventana se llena el hilo de la solicitud espera, de
+ * modo que la memoria no depende del tamaño de la temporada. La compresión usa el nivel
+ * más rápido porque PNG ya viene comprimido.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class LabelBatchService {
+
+    private final ProductRepository productRepository;
+    private final SeasonRepository seasonRepository;
+    private final BarcodeLabelRenderer renderer;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int window;
+
+    public LabelBatchService(ProductRepository productRepository,
+                             SeasonRepository seasonRepository,
+                             BarcodeLabelRenderer renderer,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.business.label.threads:0}") int threads,
+                             @Value("${app.business.label.queue-capacity:256}") int queueCapacity) {
+        this.productRepository = productRepository;
+        this.seasonRepository = seasonRepository;
+        this.renderer = renderer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "label-render-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.window = queueCapacity;
+        log.info("Impresión de etiquetas con {} hilos y ventana de {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Escribe en un ZIP las etiquetas de los productos activos de una temporada.
+     *
+     * @param seasonCode código de la temporada
+     * @param format formato de las etiquetas
+     * @param out stream de salida; no se cierra
+     * @return cantidad de etiquetas escritas
+     * @throws CatalogNotFoundException si la temporada no existe o está inactiva
+     */
+    public int writeSeason(String seasonCode, LabelFormat format, OutputStream out) {
+        seasonRepository.findByCode(seasonCode)
+                .orElseThrow(() -> new CatalogNotFoundException("temporada", seasonCode));
+        long start = System.nanoTime();
+        Integer written = transactionTemplate.execute(status -> {
+            try (Stream<ProductRepository.LabelView> labels = productRepository.streamLabelsBySeasonCode(seasonCode)) {
+                return write(labels, format, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir el ZIP de etiquetas", e);
+            }
+        });
+        log.info("Etiquetas de la temporada {} generadas: {} en {} ms",
+                seasonCode, written, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return written != null ? written : 0;
+    }
+
+    /**
+     * Dibuja en paralelo las etiquetas recibidas y las escribe al ZIP en el mismo orden.
+     *
+     * @param labels etiquetas a imprimir
+     * @param format formato de las etiquetas
+     * @param out stream de salida; no se cierra
+     * @return cantidad de etiquetas escritas
+     * @throws IOException si falla la escritura
+     */
+    public int write(Stream<ProductRepository.LabelView> labels, LabelFormat format, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.BEST_SPEED);
+        ArrayDeque<Pending> pending = new ArrayDeque<>(window);
+        int written = 0;
+        try {
+            for (ProductRepository.LabelView label : (Iterable<ProductRepository.LabelView>) labels::iterator) {
+                long sku = SkuCode.parse(label.getSkuCode());
+                if (sku == SkuCode.INVALID) {
+                    log.warn("SKU inválido omitido en la impresión de etiquetas: {}", label.getSkuCode());
+                    continue;
+                }
+                String name = label.getName();
+                pending.addLast(new Pending(sku, executor.submit(() -> renderer.render(sku, name, format))));
+                if (pending.size() >= window) {
+                    written += drain(pending, 1, format, zip);
+                }
+            }
+            written += drain(pending, pending.size(), format, zip);
+        } finally {
+            pending.forEach(p -> p.image().cancel(false));
+        }
+        zip.finish();
+        zip.flush();
+        return written;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private int drain(ArrayDeque<Pending> pending, int count, LabelFormat format, ZipOutputStream zip) throws IOException {
+        for (int i = 0; i < count; i++) {
+            Pending next = pending.pollFirst();
+            zip.putNextEntry(new ZipEntry(SkuCode.toEan13String(next.sku()) + "." + format.getExtension()));
+            zip.write(await(next.image()));
+            zip.closeEntry();
+        }
+        return count;
+    }
+
+    private static byte[] await(Future<byte[]> image) {
+        try {
+            return image.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Impresión de etiquetas interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("No se pudo dibujar una etiqueta", e.getCause());
+        }
+    }
+
+    private record Pending(long sku, Future<byte[]> image) {
+    }
+}
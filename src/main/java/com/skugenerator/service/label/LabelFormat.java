@@ -0,0 +1,40 @@
+package com.skugenerator.service.label;
+
+/**
+ * Formatos de salida de las etiquetas.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public enum LabelFormat {
+
+    PNG("png"),
+    SVG("svg");
+
+    private final String extension;
+
+    LabelFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Interpreta el formato sin distinguir mayúsculas.
+     *
+     * @param value nombre del formato
+     * @return formato
+     * @throws IllegalArgumentException si el formato no existe
+     */
+    public static LabelFormat from(String value) {
+        for (LabelFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de etiqueta no soportado: " + value);
+    }
+}
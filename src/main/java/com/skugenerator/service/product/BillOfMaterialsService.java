@@ -0,0 +1,220 @@
+package com.skugenerator.service.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skugenerator.exception.ProductNotFoundException;
+import com.skugenerator.model.dto.BomExpansion;
+import com.skugenerator.model.dto.BomLine;
+import com.skugenerator.model.entity.Product;
+import com.skugenerator.model.entity.ProductComponent;
+import com.skugenerator.repository.ProductComponentRepository;
+import com.skugenerator.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * Lista de materiales de productos compuestos y sets.
+ *
+ * La expansión de un producto (componentes directos, productos simples con su cantidad
+ * total y el conjunto de todos los SKUs alcanzados) se calcula una vez y se guarda en
+ * una cache Caffeine. Al expandir un set se reutilizan las expansiones ya guardadas de sus
+ * componentes, de modo que cada producto se consulta en la base de datos una sola vez
+ * hasta que cambie. Los ciclos se detectan con el camino recorrido durante la expansión.
+ *
+ * Cuando cambian los componentes de un producto o un producto se elimina o se restaura, se
+ * descartan todas las expansiones que lo contienen, sin necesidad de consultar los padres.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class BillOfMaterialsService {
+
+    private final ProductRepository productRepository;
+    private final ProductComponentRepository componentRepository;
+    private final Cache<String, Expansion> cache;
+    private final int maxDepth;
+
+    public BillOfMaterialsService(ProductRepository productRepository,
+                                  ProductComponentRepository componentRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.business.product.bom.cache-size:50000}") long cacheSize,
+                                  @Value("${app.business.product.bom.max-depth:10}") int maxDepth) {
+        this.productRepository = productRepository;
+        this.componentRepository = componentRepository;
+        this.maxDepth = maxDepth;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bom");
+    }
+
+    /**
+     * Expande la lista de materiales de un producto.
+     *
+     * @param skuCode código SKU del producto
+     * @return componentes directos y productos simples con su cantidad total
+     * @throws ProductNotFoundException si el producto no existe o está inactivo
+     * @throws IllegalArgumentException si los componentes forman un ciclo
+     */
+    @Transactional(readOnly = true)
+    public BomExpansion expand(String skuCode) {
+        Expansion expansion = cache.getIfPresent(skuCode);
+        if (expansion == null) {
+            productRepository.findBySkuCode(skuCode)
+                    .filter(Product::isActive)
+                    .orElseThrow(() -> new ProductNotFoundException(skuCode));
+            expansion = expansion(skuCode, new LinkedHashSet<>());
+        }
+        return BomExpansion.builder()
+                .skuCode(skuCode)
+                .components(lines(expansion.components()))
+                .leaves(lines(expansion.leaves()))
+                .depth(expansion.depth())
+                .build();
+    }
+
+    /**
+     * Reemplaza los componentes directos de un producto compuesto o set.
+     *
+     * @param skuCode código SKU del producto padre
+     * @param components componentes con su cantidad; vacío para quitarlos todos
+     * @return nueva expansión del producto
+     * @throws ProductNotFoundException si el padre o algún componente no existe o está inactivo
+     * @throws IllegalArgumentException si el tipo del padre no admite composición o se formaría un ciclo
+     */
+    @Transactional
+    public BomExpansion replaceComponents(String skuCode, List<BomLine> components) {
+        Product parent = productRepository.findBySkuCode(skuCode)
+                .filter(Product::isActive)
+                .orElseThrow(() -> new ProductNotFoundException(skuCode));
+        if (!components.isEmpty() && !parent.getProductType().canHaveComposition()) {
+            throw new IllegalArgumentException("El tipo de producto de " + skuCode + " no admite componentes");
+        }
+
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        for (BomLine line : components) {
+            quantities.merge(line.getSkuCode(), line.getQuantity(), Long::sum);
+        }
+        List<ProductComponent> rows = new ArrayList<>(quantities.size());
+        for (Map.Entry<String, Long> entry : quantities.entrySet()) {
+            String child = entry.getKey();
+            Product component = productRepository.findBySkuCode(child)
+                    .filter(Product::isActive)
+                    .orElseThrow(() -> new ProductNotFoundException(child));
+            if (child.equals(skuCode) || expansion(child, new LinkedHashSet<>()).nodes().contains(skuCode)) {
+                throw new IllegalArgumentException("El componente " + child + " ya contiene a " + skuCode + " y formaría un ciclo");
+            }
+            rows.add(ProductComponent.builder()
+                    .parent(parent)
+                    .component(component)
+                    .quantity(Math.toIntExact(entry.getValue()))
+                    .build());
+        }
+
+        componentRepository.deleteByParent(parent);
+        componentRepository.saveAll(rows);
+        componentRepository.flush();
+        invalidate(skuCode);
+        log.info("Componentes de {} actualizados: {}", skuCode, rows.size());
+        return expand(skuCode);
+    }
+
+    /**
+     * Descarta las expansiones que contienen al producto, al confirmar la transacción en
+     * curso si la hay.
+     *
+     * @param skuCode código SKU del producto que cambió
+     */
+    public void invalidate(String skuCode) {
+        evict(skuCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(skuCode);
+                }
+            });
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Obtiene la expansión de la cache o la calcula a partir de las de sus componentes.
+     * No usa la carga atómica de Caffeine porque la expansión es recursiva sobre la misma cache.
+     */
+    private Expansion expansion(String skuCode, LinkedHashSet<String> path) {
+        Expansion cached = cache.getIfPresent(skuCode);
+        if (cached != null) {
+            return cached;
+        }
+        if (!path.add(skuCode)) {
+            throw new IllegalArgumentException("Ciclo en la lista de materiales: "
+                    + String.join(" > ", path) + " > " + skuCode);
+        }
+        if (path.size() > maxDepth + 1) {
+            throw new IllegalArgumentException("La lista de materiales de " + path.iterator().next()
+                    + " supera " + maxDepth + " niveles");
+        }
+
+        List<ProductComponentRepository.ComponentView> children = componentRepository.findComponentsOf(skuCode);
+        Expansion expansion;
+        if (children.isEmpty()) {
+            expansion = new Expansion(Map.of(), Map.of(skuCode, 1L), Set.of(skuCode), 0);
+        } else {
+            Map<String, Long> components = new TreeMap<>();
+            Map<String, Long> leaves = new TreeMap<>();
+            Set<String> nodes = new HashSet<>();
+            nodes.add(skuCode);
+            int depth = 0;
+            for (ProductComponentRepository.ComponentView child : children) {
+                Expansion sub = expansion(child.getSkuCode(), path);
+                long quantity = child.getQuantity();
+                components.merge(child.getSkuCode(), quantity, Long::sum);
+                sub.leaves().forEach((leaf, count) -> leaves.merge(leaf, count * quantity, Long::sum));
+                nodes.addAll(sub.nodes());
+                depth = Math.max(depth, sub.depth() + 1);
+            }
+            expansion = new Expansion(Collections.unmodifiableMap(components), Collections.unmodifiableMap(leaves),
+                    Set.copyOf(nodes), depth);
+        }
+        path.remove(skuCode);
+        cache.put(skuCode, expansion);
+        return expansion;
+    }
+
+    private void evict(String skuCode) {
+        cache.asMap().entrySet().removeIf(entry -> entry.getValue().nodes().contains(skuCode));
+    }
+
+    private static List<BomLine> lines(Map<String, Long> quantities) {
+        List<BomLine> lines = new ArrayList<>(quantities.size());
+        quantities.forEach((sku, quantity) -> lines.add(new BomLine(sku, quantity)));
+        return lines;
+    }
+
+    /**
+     * Expansión inmutable guardada en la cache.
+     *
+     * @param components componentes directos con su cantidad
+     * @param leaves productos simples con su cantidad total
+     * @param nodes todos los SKUs alcanzados, incluido el propio
+     * @param depth niveles de anidamiento
+     */
+    private record Expansion(Map<String, Long> components, Map<String, Long> leaves, Set<String> nodes, int depth) {
+    }
+}
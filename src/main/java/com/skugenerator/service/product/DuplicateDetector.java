@@ -0,0 +1,297 @@
+package com.skugenerator.service.product;
+
+import com.skugenerator.model.entity.Product;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.util.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Detección de productos duplicados con filtros de Bloom en memoria.
+ *
+ * Mantiene dos filtros con contadores: uno con la huella de atributos de los productos
+ * activos (prefijo + nombre normalizado) y otro con todos los códigos SKU existentes.
+ * Cuando el filtro responde "definitivamente no está" se evita la consulta a la base de
+ * datos; solo los "puede estar" se confirman con una consulta. Los filtros se reconstruyen
+ * al iniciar la aplicación y se actualizan con cada alta, baja y restauración.
+ *
+ * Los filtros solo ven los productos creados por esta instancia, así que únicamente son
+ * confiables con app.business.sku.allocation.mode=local. En modo lease varias réplicas
+ * crean productos y un "definitivamente no está" de este nodo no descarta un producto
+ * creado en otro, por lo que los filtros no se construyen y toda verificación consulta
+ * la base de datos.
+ *
+ * Expone en Micrometer el resultado de cada verificación y la tasa de falsos positivos
+ * observada y esperada de cada filtro.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class DuplicateDetector {
+
+    private static final String CHECKS_METRIC = "sku.duplicate.filter.checks";
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FilterMetrics fingerprintMetrics;
+    private final FilterMetrics skuMetrics;
+    private final CountingBloomFilter fingerprints;
+    private final CountingBloomFilter skuCodes;
+    private final boolean enabled;
+    private final boolean singleInstance;
+
+    private volatile boolean ready;
+
+    public DuplicateDetector(ProductRepository productRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.business.product.enable-duplicate-detection:true}") boolean enabled,
+                             @Value("${app.business.product.duplicate-filter.expected-products:1000000}") long expectedProducts,
+                             @Value("${app.business.product.duplicate-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                             @Value("${app.business.sku.allocation.mode:local}") String allocationMode) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout(-1);
+        this.enabled = enabled;
+        this.singleInstance = !"lease".equals(allocationMode);
+        this.fingerprints = new CountingBloomFilter(expectedProducts, falsePositiveProbability);
+        this.skuCodes = new CountingBloomFilter(expectedProducts, falsePositiveProbability);
+        this.fingerprintMetrics = new FilterMetrics(meterRegistry, "fingerprint", fingerprints);
+        this.skuMetrics = new FilterMetrics(meterRegistry, "sku", skuCodes);
+    }
+
+    // ===================================================================
+    // CONSTRUCCIÓN
+    // ===================================================================
+
+    /**
+     * Reconstruye los filtros con todos los productos persistidos.
+     * Mientras no termine, todas las verificaciones consultan la base de datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Detección de duplicados deshabilitada");
+            return;
+        }
+        if (!singleInstance) {
+            log.info("Filtros de duplicados deshabilitados en modo lease: las verificaciones consultan la base de datos");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ready = false;
+        fingerprints.clear();
+        skuCodes.clear();
+        Long loaded = transactionTemplate.execute(status -> {
+            try (Stream<ProductRepository.FingerprintView> products = productRepository.streamFingerprints()) {
+                return products.peek(product -> {
+                    skuCodes.add(CountingBloomFilter.hash(product.getSkuCode()));
+                    if (Boolean.TRUE.equals(product.getActive())) {
+                        fingerprints.add(fingerprint(product.getSkuPrefix(), product.getName()));
+                    }
+                }).count();
+            }
+        });
+        ready = true;
+        log.info("Filtros de duplicados construidos con {} productos en {} ms ({} contadores, {} funciones hash)",
+                loaded, System.currentTimeMillis() - start, fingerprints.size(), fingerprints.hashFunctions());
+    }
+
+    // ===================================================================
+    // VERIFICACIONES
+    // ===================================================================
+
+    /**
+     * Verifica si ya existe un producto activo con los mismos atributos y nombre.
+     *
+     * @param skuPrefix prefijo de atributos de 9 dígitos
+     * @param name nombre del producto
+     * @return true si es un duplicado
+     */
+    public boolean isDuplicate(String skuPrefix, String name) {
+        if (!enabled) {
+            return false;
+        }
+        if (ready && !fingerprints.mightContain(fingerprint(skuPrefix, name))) {
+            fingerprintMetrics.negative.increment();
+            return false;
+        }
+        boolean exists = productRepository.existsBySkuPrefixAndNameIgnoreCaseAndActiveTrue(skuPrefix, name.trim());
+        if (ready) {
+            (exists ? fingerprintMetrics.confirmed : fingerprintMetrics.falsePositive).increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Verifica si un código SKU ya fue usado, incluyendo productos eliminados.
+     *
+     * @param skuCode código SKU de 12 dígitos
+     * @return true si el código ya existe
+     */
+    public boolean isSkuTaken(String skuCode) {
+        if (ready && !skuCodes.mightContain(CountingBloomFilter.hash(skuCode))) {
+            skuMetrics.negative.increment();
+            return false;
+        }
+        boolean exists = productRepository.existsBySkuCode(skuCode);
+        if (ready) {
+            (exists ? skuMetrics.confirmed : skuMetrics.falsePositive).increment();
+        }
+        return exists;
+    }
+
+    // ===================================================================
+    // ACTUALIZACIÓN
+    // ===================================================================
+
+    /**
+     * Registra un producto nuevo en los filtros.
+     *
+     * @param product producto creado
+     */
+    public void onCreated(Product product) {
+        skuCodes.add(CountingBloomFilter.hash(product.getSkuCode()));
+        if (product.isActive()) {
+            fingerprints.add(fingerprint(product.getSkuPrefix(), product.getName()));
+        }
+    }
+
+    /**
+     * Quita un producto que no llegó a persistirse. Su código SKU se conserva en el
+     * filtro porque quitar elementos del filtro de códigos no es necesario para su exactitud.
+     *
+     * @param product producto descartado
+     */
+    public void onDiscarded(Product product) {
+        fingerprints.remove(fingerprint(product.getSkuPrefix(), product.getName()));
+    }
+
+    /**
+     * Quita la huella de un producto eliminado lógicamente, al confirmar la transacción en
+     * curso si la hay: si se revierte, el producto sigue activo y su huella debe quedarse.
+     * Su código SKU sigue ocupado.
+     *
+     * @param product producto eliminado
+     */
+    public void onSoftDeleted(Product product) {
+        long fingerprint = fingerprint(product.getSkuPrefix(), product.getName());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fingerprints.remove(fingerprint);
+                }
+            });
+        } else {
+            fingerprints.remove(fingerprint);
+        }
+    }
+
+    /**
+     * Vuelve a registrar la huella de un producto restaurado. Se agrega de inmediato, para
+     * que no haya un momento tras confirmar en que el filtro descarte el producto ya activo,
+     * y se quita de nuevo si la transacción en curso se revierte.
+     *
+     * @param product producto restaurado
+     */
+    public void onRestored(Product product) {
+        long fingerprint = fingerprint(product.getSkuPrefix(), product.getName());
+        fingerprints.add(fingerprint);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        fingerprints.remove(fingerprint);
+                    }
+                }
+            });
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Huella de atributos: prefijo + nombre en minúsculas sin espacios repetidos. Es más
+     * permisiva que la comparación de la base de datos, así que nunca produce falsos negativos.
+     */
+    private static long fingerprint(String skuPrefix, String name) {
+        String trimmed = name.trim();
+        StringBuilder sb = new StringBuilder(skuPrefix.length() + trimmed.length() + 1)
+                .append(skuPrefix).append('|');
+        boolean previousSpace = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    sb.append(' ');
+                }
+                previousSpace = true;
+            } else {
+                sb.append(Character.toLowerCase(c));
+                previousSpace = false;
+            }
+        }
+        return CountingBloomFilter.hash(sb);
+    }
+
+    /**
+     * Contadores de resultados y tasas de falsos positivos de un filtro.
+     */
+    private static final class FilterMetrics {
+        private final Counter negative;
+        private final Counter confirmed;
+        private final Counter falsePositive;
+
+        private FilterMetrics(MeterRegistry registry, String filter, CountingBloomFilter bloomFilter) {
+            this.negative = counter(registry, filter, "negative");
+            this.confirmed = counter(registry, filter, "confirmed");
+            this.falsePositive = counter(registry, filter, "false_positive");
+            Gauge.builder("sku.duplicate.filter.false_positive_rate", this, FilterMetrics::observedFalsePositiveRate)
+                    .description("Falsos positivos sobre el total de elementos ausentes verificados")
+                    .tag("filter", filter)
+                    .register(registry);
+            Gauge.builder("sku.duplicate.filter.expected_false_positive_rate", bloomFilter,
+                            CountingBloomFilter::expectedFalsePositiveRate)
+                    .description("Tasa de falsos positivos teórica con la ocupación actual del filtro")
+                    .tag("filter", filter)
+                    .register(registry);
+        }
+
+        private double observedFalsePositiveRate() {
+            double absent = negative.count() + falsePositive.count();
+            return absent == 0 ? 0.0 : falsePositive.count() / absent;
+        }
+
+        private static Counter counter(MeterRegistry registry, String filter, String outcome) {
+            return Counter.builder(CHECKS_METRIC)
+                    .description("Verificaciones de duplicados por filtro y resultado")
+                    .tag("filter", filter)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.skugenerator.service.product;
+
+import com.skugenerator.exception.ProductNotFoundException;
+import com.skugenerator.model.entity.Product;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.service.sku.ConsecutiveFreeList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Eliminación lógica y restauración de productos.
+ *
+ * Además de cambiar el estado del producto, mantiene al día los filtros de duplicados,
+ * la lista de consecutivos reutilizables y las listas de materiales en cache, de forma
+ * incremental y sin recorrer la tabla.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class ProductLifecycleService {
+
+    private final ProductRepository productRepository;
+    private final DuplicateDetector duplicateDetector;
+    private final ConsecutiveFreeList freeList;
+    private final BillOfMaterialsService billOfMaterials;
+    private final ProductLookupService productLookupService;
+
+    public ProductLifecycleService(ProductRepository productRepository,
+                                   DuplicateDetector duplicateDetector,
+                                   ConsecutiveFreeList freeList,
+                                   BillOfMaterialsService billOfMaterials,
+                                   ProductLookupService productLookupService) {
+        this.productRepository = productRepository;
+        this.duplicateDetector = duplicateDetector;
+        this.freeList = freeList;
+        this.billOfMaterials = billOfMaterials;
+        this.productLookupService = productLookupService;
+    }
+
+    /**
+     * Elimina lógicamente un producto.
+     *
+     * @param skuCode código SKU del producto
+     * @throws ProductNotFoundException si el producto no existe
+     */
+    @Transactional
+    public void softDelete(String skuCode) {
+        Product product = productRepository.findBySkuCode(skuCode)
+                .orElseThrow(() -> new ProductNotFoundException(skuCode));
+        if (!product.isActive()) {
+            return;
+        }
+        product.softDelete();
+        productRepository.saveAndFlush(product);
+        duplicateDetector.onSoftDeleted(product);
+        freeList.onSoftDeleted(product);
+        billOfMaterials.invalidate(skuCode);
+        productLookupService.invalidate(skuCode);
+        log.info("Producto eliminado: {}", skuCode);
+    }
+
+    /**
+     * Restaura un producto eliminado lógicamente.
+     *
+     * @param skuCode código SKU del producto
+     * @throws ProductNotFoundException si el producto no existe o su código ya fue reutilizado
+     */
+    @Transactional
+    public void restore(String skuCode) {
+        Product product = productRepository.findBySkuCode(skuCode)
+                .orElseThrow(() -> new ProductNotFoundException(skuCode));
+        if (product.isActive()) {
+            return;
+        }
+        freeList.onRestored(product);
+        product.restore();
+        productRepository.saveAndFlush(product);
+        duplicateDetector.onRestored(product);
+        billOfMaterials.invalidate(skuCode);
+        productLookupService.invalidate(skuCode);
+        log.info("Producto restaurado: {}", skuCode);
+    }
+}
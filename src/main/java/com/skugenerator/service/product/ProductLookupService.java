@@ -0,0 +1,152 @@
+package com.skugenerator.service.product;
+
+import com.skugenerator.model.dto.ProductLookup;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.LongKeyCache;
+import com.skugenerator.util.SkuCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Consulta de productos por código SKU con cache en memoria.
+ *
+ * Las consultas por SKU desde puntos de venta y el ERP son la lectura más frecuente. El
+ * SKU se empaqueta como long y se busca en una {@link LongKeyCache} que guarda un registro
+ * compacto (id, nombre y estado) por producto. Los SKUs inexistentes también se guardan,
+ * con un vencimiento más corto, para que los reintentos de un código desconocido no vuelvan
+ * a consultar la base de datos.
+ *
+ * Crear, eliminar, restaurar o reutilizar un producto en este nodo quita su SKU de la cache;
+ * los cambios hechos por otros nodos se ven al vencer la entrada.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class ProductLookupService {
+
+    /** Registro de los SKUs que no existen */
+    private static final Entry UNKNOWN = new Entry(0L, null, false);
+
+    private final ProductRepository productRepository;
+    private final LongKeyCache<Entry> cache;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public ProductLookupService(ProductRepository productRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.business.product.lookup-cache.capacity:262144}") int capacity,
+                                @Value("${app.business.product.lookup-cache.ttl-seconds:600}") long ttlSeconds,
+                                @Value("${app.business.product.lookup-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.productRepository = productRepository;
+        this.cache = new LongKeyCache<>(capacity);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.negativeTtlMillis = negativeTtlSeconds * 1000;
+        this.hits = counter(meterRegistry, "hit");
+        this.negativeHits = counter(meterRegistry, "negative_hit");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("sku.lookup_cache.size", cache, LongKeyCache::size)
+                .tag("cache", Constants.Cache.PRODUCTS_CACHE)
+                .description("Entradas en la cache de productos por SKU")
+                .register(meterRegistry);
+        FunctionCounter.builder("sku.lookup_cache.evictions", cache, LongKeyCache::evictions)
+                .tag("cache", Constants.Cache.PRODUCTS_CACHE)
+                .description("Entradas desalojadas de la cache de productos por SKU")
+                .register(meterRegistry);
+        log.info("Cache de productos por SKU inicializada con capacidad {}", cache.capacity());
+    }
+
+    /**
+     * Busca un producto por su código SKU.
+     *
+     * @param skuCode código SKU de 12 dígitos
+     * @return producto, o vacío si el código no existe o no tiene formato válido
+     */
+    public Optional<ProductLookup> find(String skuCode) {
+        long sku = SkuCode.parse(skuCode);
+        if (sku == SkuCode.INVALID) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(sku, now);
+        if (entry == UNKNOWN) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = productRepository.findLookupBySkuCode(skuCode)
+                    .map(view -> new Entry(view.getId(), view.getName(), Boolean.TRUE.equals(view.getActive())))
+                    .orElse(UNKNOWN);
+            cache.put(sku, entry, now + (entry == UNKNOWN ? negativeTtlMillis : ttlMillis));
+            if (entry == UNKNOWN) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(ProductLookup.builder()
+                .id(entry.id())
+                .skuCode(skuCode)
+                .name(entry.name())
+                .active(entry.active())
+                .build());
+    }
+
+    /**
+     * Quita un SKU de la cache, de nuevo al terminar la transacción en curso si la hay.
+     *
+     * @param skuCode código SKU del producto que cambió
+     */
+    public void invalidate(String skuCode) {
+        long sku = SkuCode.parse(skuCode);
+        if (sku == SkuCode.INVALID) {
+            return;
+        }
+        cache.invalidate(sku);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(sku);
+                }
+            });
+        }
+    }
+
+    /**
+     * Vacía la cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("sku.lookup_cache.requests")
+                .tag("cache", Constants.Cache.PRODUCTS_CACHE)
+                .tag("result", result)
+                .description("Consultas de productos por SKU según su resultado en la cache")
+                .register(registry);
+    }
+
+    /**
+     * Registro compacto guardado por SKU.
+     */
+    private record Entry(long id, String name, boolean active) {
+    }
+}
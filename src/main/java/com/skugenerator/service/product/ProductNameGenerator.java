@@ -0,0 +1,134 @@
+package com.skugenerator.service.product;
+
+import com.skugenerator.model.entity.*;
+import com.skugenerator.service.catalog.CatalogSnapshot;
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generación de nombres descriptivos de producto a partir de plantillas compiladas.
+ *
+ * Los fragmentos de nombre de cada código de catálogo se guardan canonicalizados en
+ * arreglos indexados por el código numérico, tomados del propio catálogo la primera vez
+ * que aparecen. Los arreglos pertenecen a la {@link CatalogSnapshot} de la que salieron
+ * las entidades y se descartan cuando llega una instantánea distinta, así que un renombre
+ * se refleja en cuanto la instantánea lo incluye. Cada hilo
+ * escribe sobre su propio StringBuilder reutilizable, de modo que generar un nombre solo
+ * crea el String final.
+ *
+ * Plantillas:
+ * - app.business.product.naming.template: variantes con nombre base (por defecto "{base} {size} {color}")
+ * - app.business.product.naming.auto-template: productos sin nombre, a partir de sus atributos
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class ProductNameGenerator {
+
+    private static final int PARTS = ProductNameTemplate.Part.values().length;
+
+    private final ProductNameTemplate template;
+    private final ProductNameTemplate autoTemplate;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    private volatile Fragments fragments = new Fragments(null);
+
+    public ProductNameGenerator(
+            @Value("${app.business.product.naming.template:{base} {size} {color}}") String template,
+            @Value("${app.business.product.naming.auto-template:{type} {category} {subcategory} {size} {color} {season}}") String autoTemplate) {
+        this.template = ProductNameTemplate.compile(template);
+        this.autoTemplate = ProductNameTemplate.compile(autoTemplate);
+        log.info("Plantillas de nombres compiladas: '{}' y '{}' (automática)", this.template, this.autoTemplate);
+    }
+
+    // ===================================================================
+    // GENERACIÓN
+    // ===================================================================
+
+    /**
+     * Genera el nombre de un producto. Sin nombre base se usa la plantilla automática.
+     *
+     * @param catalogs instantánea de la que se resolvieron las entidades de catálogo
+     * @param baseName nombre base de la prenda, o null para un nombre automático
+     * @param prefix prefijo de 9 dígitos empaquetado del producto
+     * @return nombre de como máximo PRODUCT_NAME_MAX_LENGTH caracteres
+     */
+    public String generate(CatalogSnapshot catalogs, String baseName, long prefix, ProductType productType,
+                           Category category, Subcategory subcategory, Size size, Color color, Season season) {
+        boolean auto = baseName == null || baseName.isBlank();
+        Buffers local = buffers.get();
+        String[] parts = local.parts;
+        Fragments current = fragments;
+        if (current.snapshot != catalogs) {
+            current = new Fragments(catalogs);
+            fragments = current;
+        }
+        long sku = SkuCode.of(prefix, 0);
+        int categoryCode = SkuCode.category(sku);
+
+        parts[ProductNameTemplate.Part.BASE.ordinal()] = auto ? null : baseName.trim();
+        parts[ProductNameTemplate.Part.TYPE.ordinal()] =
+                current.fragment(current.types, SkuCode.type(sku), productType.getName());
+        parts[ProductNameTemplate.Part.CATEGORY.ordinal()] =
+                current.fragment(current.categories, categoryCode, category.getName());
+        parts[ProductNameTemplate.Part.SUBCATEGORY.ordinal()] =
+                current.fragment(current.subcategories, SkuCode.subcategoryFullCode(sku), subcategory.getName());
+        parts[ProductNameTemplate.Part.SIZE.ordinal()] =
+                current.fragment(current.sizes, SkuCode.size(sku), size.getName());
+        parts[ProductNameTemplate.Part.COLOR.ordinal()] =
+                current.fragment(current.colors, SkuCode.color(sku), color.getName());
+        parts[ProductNameTemplate.Part.SEASON.ordinal()] =
+                current.fragment(current.seasons, SkuCode.season(sku), season.getName());
+
+        StringBuilder sb = local.builder;
+        sb.setLength(0);
+        (auto ? autoTemplate : template).render(sb, parts, Constants.Validation.PRODUCT_NAME_MAX_LENGTH);
+        return sb.toString();
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Fragmentos canonicalizados por catálogo de una instantánea, indexados por código
+     * numérico. Las escrituras concurrentes guardan el mismo valor, así que no requieren
+     * sincronización.
+     */
+    private static final class Fragments {
+        private final CatalogSnapshot snapshot;
+        private final String[] types = new String[10];
+        private final String[] categories = new String[100];
+        private final String[] subcategories = new String[1000];
+        private final String[] sizes = new String[100];
+        private final String[] colors = new String[100];
+        private final String[] seasons = new String[10];
+
+        private Fragments(CatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        private String fragment(String[] cache, int code, String name) {
+            String fragment = cache[code];
+            if (fragment == null) {
+                fragment = name != null ? name.trim().intern() : "";
+                cache[code] = fragment;
+            }
+            return fragment;
+        }
+    }
+
+    /**
+     * Buffers reutilizables de cada hilo.
+     */
+    private static final class Buffers {
+        private final StringBuilder builder = new StringBuilder(Constants.Validation.PRODUCT_NAME_MAX_LENGTH + 32);
+        private final String[] parts = new String[PARTS];
+    }
+}
@@ -0,0 +1,140 @@
+package com.skugenerator.service.product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plantilla de nombres de producto compilada.
+ *
+ * El patrón se escribe con marcadores entre llaves, por ejemplo
+ * "{base} {size} {color}", y se compila una sola vez en una secuencia de segmentos
+ * literales y marcadores. Al generar un nombre solo se recorren los segmentos
+ * agregando fragmentos a un StringBuilder, sin volver a interpretar el patrón.
+ *
+ * Marcadores disponibles: {base}, {type}, {category}, {subcategory}, {size}, {color},
+ * {season}. Un texto literal que precede a un marcador vacío se omite, de modo que un
+ * nombre base ausente no deja separadores sueltos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class ProductNameTemplate {
+
+    /**
+     * Fragmentos que puede usar una plantilla.
+     */
+    public enum Part {
+        BASE, TYPE, CATEGORY, SUBCATEGORY, SIZE, COLOR, SEASON
+    }
+
+    private final String pattern;
+    private final String[] literals;
+    private final Part[] parts;
+    private final String trailing;
+
+    private ProductNameTemplate(String pattern, List<String> literals, List<Part> parts, String trailing) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(String[]::new);
+        this.parts = parts.toArray(Part[]::new);
+        this.trailing = trailing;
+    }
+
+    /**
+     * Compila un patrón.
+     *
+     * @param pattern patrón con marcadores entre llaves
+     * @return plantilla compilada
+     * @throws IllegalArgumentException si el patrón tiene un marcador desconocido o sin cerrar
+     */
+    public static ProductNameTemplate compile(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("La plantilla de nombres está vacía");
+        }
+        List<String> literals = new ArrayList<>();
+        List<Part> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int end = pattern.indexOf('}', i);
+            if (end < 0) {
+                throw new IllegalArgumentException("Marcador sin cerrar en la plantilla: " + pattern);
+            }
+            String name = pattern.substring(i + 1, end).trim();
+            try {
+                parts.add(Part.valueOf(name.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Marcador desconocido {" + name + "} en la plantilla: " + pattern, e);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            i = end + 1;
+        }
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("La plantilla no tiene marcadores: " + pattern);
+        }
+        return new ProductNameTemplate(pattern, literals, parts, literal.toString());
+    }
+
+    /**
+     * Escribe el nombre en el StringBuilder, deteniéndose al alcanzar la longitud máxima
+     * y sin dejar espacios al final.
+     *
+     * @param sb destino, se agrega al final de su contenido
+     * @param fragments fragmento de cada {@link Part}, indexado por su ordinal; null o vacío si no aplica
+     * @param maxLength longitud máxima del nombre
+     * @return el mismo StringBuilder
+     */
+    public StringBuilder render(StringBuilder sb, String[] fragments, int maxLength) {
+        int start = sb.length();
+        int limit = start + maxLength;
+        for (int i = 0; i < parts.length && sb.length() < limit; i++) {
+            String fragment = fragments[parts[i].ordinal()];
+            if (fragment == null || fragment.isEmpty()) {
+                continue;
+            }
+            if (i == 0 || sb.length() > start) {
+                sb.append(literals[i]);
+            }
+            sb.append(fragment);
+        }
+        if (sb.length() > start) {
+            sb.append(trailing);
+        }
+        if (sb.length() > limit) {
+            sb.setLength(limit);
+        }
+        int end = sb.length();
+        while (end > start && sb.charAt(end - 1) == ' ') {
+            end--;
+        }
+        sb.setLength(end);
+        return sb;
+    }
+
+    /**
+     * Indica si la plantilla usa un fragmento.
+     *
+     * @param part fragmento
+     * @return true si algún marcador lo usa
+     */
+    public boolean uses(Part part) {
+        for (Part p : parts) {
+            if (p == part) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
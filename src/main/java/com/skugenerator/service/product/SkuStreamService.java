@@ -0,0 +1,324 @@
+package com.skugenerator.service.product;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skugenerator.exception.CatalogNotFoundException;
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.exception.DuplicateProductException;
+import com.skugenerator.model.dto.SkuTuple;
+import com.skugenerator.model.dto.StreamedSku;
+import com.skugenerator.model.entity.*;
+import com.skugenerator.repository.ProductBatchRepository;
+import com.skugenerator.service.catalog.CatalogCodeIndex;
+import com.skugenerator.service.catalog.CatalogSnapshot;
+import com.skugenerator.service.sku.ConsecutiveAllocator;
+import com.skugenerator.util.SkuCode;
+import com.skugenerator.util.ValidationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Generación masiva de SKUs por streaming NDJSON.
+ *
+ * Lee la entrada línea por línea y procesa bloques acotados de tuplas: cada bloque se
+ * inserta en su propia transacción con lotes JDBC y sus SKUs se escriben y se envían
+ * al cliente antes de leer el bloque siguiente. La memoria usada depende del tamaño del
+ * bloque y no del tamaño de la entrada, y la contrapresión es la del propio socket: si
+ * el cliente no consume la respuesta, la escritura se bloquea y se deja de leer.
+ *
+ * Las tuplas sin nombre reciben un nombre automático a partir de sus atributos con la
+ * plantilla del {@link ProductNameGenerator}.
+ *
+ * Las líneas inválidas y los bloques que fallan al insertarse se informan como líneas
+ * de error sin interrumpir el resto del stream. Las líneas de más de
+ * stream-max-line-length caracteres se descartan sin guardarlas en memoria y también se
+ * informan como error.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class SkuStreamService {
+
+    private final CatalogCodeIndex catalogCodeIndex;
+    private final ProductBatchRepository productBatchRepository;
+    private final ConsecutiveAllocator consecutiveAllocator;
+    private final DuplicateDetector duplicateDetector;
+    private final ProductNameGenerator nameGenerator;
+    private final ProductLookupService productLookupService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader tupleReader;
+    private final ObjectWriter resultWriter;
+
+    @Value("${app.business.product.bulk.stream-chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.business.product.bulk.stream-max-line-length:16384}")
+    private int maxLineLength;
+
+    public SkuStreamService(CatalogCodeIndex catalogCodeIndex,
+                            ProductBatchRepository productBatchRepository,
+                            ConsecutiveAllocator consecutiveAllocator,
+                            DuplicateDetector duplicateDetector,
+                            ProductNameGenerator nameGenerator,
+                            ProductLookupService productLookupService,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper) {
+        this.catalogCodeIndex = catalogCodeIndex;
+        this.productBatchRepository = productBatchRepository;
+        this.consecutiveAllocator = consecutiveAllocator;
+        this.duplicateDetector = duplicateDetector;
+        this.nameGenerator = nameGenerator;
+        this.productLookupService = productLookupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tupleReader = objectMapper.readerFor(SkuTuple.class);
+        this.resultWriter = objectMapper.writerFor(StreamedSku.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Genera un SKU por cada línea NDJSON de la entrada y escribe un resultado NDJSON por línea.
+     *
+     * @param input cuerpo de la solicitud con una {@link SkuTuple} por línea
+     * @param output cuerpo de la respuesta
+     * @return cantidad de SKUs generados
+     * @throws IOException si falla la lectura o la escritura del stream
+     */
+    public long generate(InputStream input, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength);
+        OutputStream out = new BufferedOutputStream(output);
+        CatalogSnapshot catalogs = catalogCodeIndex.snapshot();
+
+        List<StreamedSku> results = new ArrayList<>(chunkSize);
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long generated = 0;
+        long failed = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (reader.isTruncated()) {
+                results.add(StreamedSku.failed(lineNumber, "La línea excede el máximo de " + maxLineLength + " caracteres"));
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                try {
+                    chunk.add(newProduct(tupleReader.readValue(line), catalogs));
+                    chunkLines.add(lineNumber);
+                } catch (JsonProcessingException e) {
+                    results.add(StreamedSku.failed(lineNumber, "JSON inválido: " + e.getOriginalMessage()));
+                } catch (CatalogNotFoundException | DuplicateProductException | ConsecutiveExhaustedException
+                         | IllegalArgumentException e) {
+                    results.add(StreamedSku.failed(lineNumber, e.getMessage()));
+                }
+            }
+
+            if (chunk.size() + results.size() >= chunkSize) {
+                generated += flushChunk(chunk, chunkLines, results);
+                failed += write(results, out);
+            }
+        }
+        generated += flushChunk(chunk, chunkLines, results);
+        failed += write(results, out);
+
+        log.info("Stream NDJSON procesado: {} líneas, {} SKUs generados, {} errores en {} ms",
+                lineNumber, generated, failed, System.currentTimeMillis() - start);
+        return generated;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Inserta el bloque pendiente en una transacción propia y agrega sus resultados.
+     *
+     * @return cantidad de SKUs insertados
+     */
+    private int flushChunk(List<Product> chunk, List<Long> chunkLines, List<StreamedSku> results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int inserted = 0;
+        try {
+            transactionTemplate.executeWithoutResult(status -> productBatchRepository.insertAll(chunk));
+            for (int i = 0; i < chunk.size(); i++) {
+                Product product = chunk.get(i);
+                productLookupService.invalidate(product.getSkuCode());
+                results.add(StreamedSku.generated(chunkLines.get(i), product.getSkuCode(), product.getName()));
+            }
+            inserted = chunk.size();
+        } catch (DataAccessException e) {
+            if (e instanceof DuplicateKeyException) {
+                chunk.forEach(product -> consecutiveAllocator.evict(SkuCode.parsePrefix(product.getSkuPrefix())));
+            }
+            chunk.forEach(duplicateDetector::onDiscarded);
+            log.warn("Falló la inserción de un bloque de {} productos: {}", chunk.size(), e.getMessage());
+            for (Long chunkLine : chunkLines) {
+                results.add(StreamedSku.failed(chunkLine, "No se pudo guardar el producto"));
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+        return inserted;
+    }
+
+    /**
+     * Escribe los resultados como NDJSON y los envía al cliente.
+     *
+     * @return cantidad de resultados con error
+     */
+    private int write(List<StreamedSku> results, OutputStream out) throws IOException {
+        int errors = 0;
+        for (StreamedSku result : results) {
+            resultWriter.writeValue(out, result);
+            out.write('\n');
+            if (result.getError() != null) {
+                errors++;
+            }
+        }
+        out.flush();
+        results.clear();
+        return errors;
+    }
+
+    private Product newProduct(SkuTuple tuple, CatalogSnapshot catalogs) {
+        boolean autoName = tuple.getName() == null || tuple.getName().isBlank();
+        if (!autoName && !ValidationUtils.isValidProductName(tuple.getName())) {
+            throw new IllegalArgumentException("Nombre de producto inválido");
+        }
+        ProductType productType = require(catalogs.activeProductType(tuple.getProductTypeCode()),
+                "tipo de producto", tuple.getProductTypeCode());
+        Category category = require(catalogs.activeCategory(tuple.getCategoryCode()),
+                "categoría", tuple.getCategoryCode());
+        Subcategory subcategory = require(catalogs.activeSubcategory(category, tuple.getSubcategoryCode()),
+                "subcategoría", tuple.getSubcategoryCode());
+        Size size = require(catalogs.activeSize(tuple.getSizeCode()), "talla", tuple.getSizeCode());
+        Color color = require(catalogs.activeColor(tuple.getColorCode()), "color", tuple.getColorCode());
+        Season season = require(catalogs.activeSeason(tuple.getSeasonCode()), "temporada", tuple.getSeasonCode());
+
+        long prefix = SkuCode.encodePrefix(
+                Integer.parseInt(productType.getCode()), Integer.parseInt(category.getCode()),
+                Integer.parseInt(subcategory.getCode()), Integer.parseInt(size.getCode()),
+                Integer.parseInt(color.getCode()), Integer.parseInt(season.getCode()));
+        String skuPrefix = SkuCode.formatPrefix(prefix);
+        String name = autoName
+                ? nameGenerator.generate(catalogs, null, prefix, productType, category, subcategory, size, color, season)
+                : tuple.getName().trim();
+        if (autoName && !ValidationUtils.isValidProductName(name)) {
+            throw new IllegalArgumentException("No se pudo generar un nombre válido para el producto");
+        }
+        if (duplicateDetector.isDuplicate(skuPrefix, name)) {
+            throw new DuplicateProductException(skuPrefix, name);
+        }
+        int consecutive = consecutiveAllocator.allocate(prefix);
+        while (duplicateDetector.isSkuTaken(SkuCode.toString(SkuCode.of(prefix, consecutive)))) {
+            consecutive = consecutiveAllocator.allocate(prefix);
+        }
+
+        // Se registra antes de insertar para detectar duplicados dentro del mismo stream
+        Product product = Product.builder()
+                .skuCode(SkuCode.toString(SkuCode.of(prefix, consecutive)))
+                .skuPrefix(skuPrefix)
+                .consecutive(consecutive)
+                .name(name)
+                .description(tuple.getDescription())
+                .productType(productType)
+                .category(category)
+                .subcategory(subcategory)
+                .size(size)
+                .color(color)
+                .season(season)
+                .build();
+        duplicateDetector.onCreated(product);
+        return product;
+    }
+
+    private static <T> T require(T entity, String catalog, String code) {
+        if (entity == null) {
+            throw new CatalogNotFoundException(catalog, code);
+        }
+        return entity;
+    }
+
+    /**
+     * Lector de líneas NDJSON con longitud máxima. El resto de una línea más larga se
+     * descarta hasta su fin de línea sin acumularlo, y la línea se marca como truncada.
+     * Los '\r' se ignoran: dentro de un JSON válido siempre van escapados.
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean truncated;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Lee la siguiente línea.
+         *
+         * @return línea sin el fin de línea (vacía si se truncó), o null al terminar la entrada
+         */
+        private String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return read ? result() : null;
+                    }
+                }
+                read = true;
+                char c = buffer[position++];
+                if (c == '\n') {
+                    return result();
+                }
+                if (c == '\r') {
+                    continue;
+                }
+                if (line.length() < maxLength) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        private String result() {
+            return truncated ? "" : line.toString();
+        }
+    }
+}
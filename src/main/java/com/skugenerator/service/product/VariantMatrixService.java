@@ -0,0 +1,199 @@
+package com.skugenerator.service.product;
+
+import com.skugenerator.exception.CatalogNotFoundException;
+import com.skugenerator.exception.DuplicateProductException;
+import com.skugenerator.model.dto.GeneratedSku;
+import com.skugenerator.model.dto.VariantMatrixRequest;
+import com.skugenerator.model.dto.VariantMatrixResponse;
+import com.skugenerator.model.entity.*;
+import com.skugenerator.repository.ProductBatchRepository;
+import com.skugenerator.service.catalog.CatalogCodeIndex;
+import com.skugenerator.service.catalog.CatalogSnapshot;
+import com.skugenerator.service.sku.ConsecutiveAllocator;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Generación masiva de SKUs para una prenda en varias tallas, colores y temporadas.
+ *
+ * Las referencias de catálogo se resuelven en memoria contra la {@link CatalogSnapshot}
+ * vigente y los duplicados se rechazan antes de asignar ningún consecutivo. Los
+ * consecutivos se asignan en memoria con el {@link ConsecutiveAllocator}, los nombres de
+ * las variantes salen de la plantilla del {@link ProductNameGenerator} y todos los
+ * productos se insertan en una única transacción con lotes JDBC.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class VariantMatrixService {
+
+    private final CatalogCodeIndex catalogCodeIndex;
+    private final ProductBatchRepository productBatchRepository;
+    private final ConsecutiveAllocator consecutiveAllocator;
+    private final DuplicateDetector duplicateDetector;
+    private final ProductNameGenerator nameGenerator;
+    private final ProductLookupService productLookupService;
+
+    @Value("${app.business.product.bulk.max-variants:5000}")
+    private int maxVariants;
+
+    public VariantMatrixService(CatalogCodeIndex catalogCodeIndex,
+                                ProductBatchRepository productBatchRepository,
+                                ConsecutiveAllocator consecutiveAllocator,
+                                DuplicateDetector duplicateDetector,
+                                ProductNameGenerator nameGenerator,
+                                ProductLookupService productLookupService) {
+        this.catalogCodeIndex = catalogCodeIndex;
+        this.productBatchRepository = productBatchRepository;
+        this.consecutiveAllocator = consecutiveAllocator;
+        this.duplicateDetector = duplicateDetector;
+        this.nameGenerator = nameGenerator;
+        this.productLookupService = productLookupService;
+    }
+
+    /**
+     * Genera y persiste un producto por cada combinación talla × color × temporada.
+     *
+     * @param request solicitud con los códigos de catálogo
+     * @return SKUs generados en orden de talla, color y temporada
+     * @throws CatalogNotFoundException si algún código no existe o está inactivo
+     * @throws DuplicateProductException si alguna variante ya existe con el mismo nombre
+     * @throws IllegalArgumentException si la matriz excede el máximo de variantes
+     */
+    @Transactional
+    public VariantMatrixResponse generate(VariantMatrixRequest request) {
+        long start = System.currentTimeMillis();
+        int variantCount = request.variantCount();
+        if (variantCount > maxVariants) {
+            throw new IllegalArgumentException(String.format(
+                    "La matriz genera %d variantes y el máximo permitido es %d", variantCount, maxVariants));
+        }
+
+        // ===== RESOLUCIÓN DE CATÁLOGOS =====
+        CatalogSnapshot catalogs = catalogCodeIndex.snapshot();
+        ProductType productType = require(catalogs.activeProductType(request.getProductTypeCode()),
+                "tipo de producto", request.getProductTypeCode());
+        Category category = require(catalogs.activeCategory(request.getCategoryCode()),
+                "categoría", request.getCategoryCode());
+        Subcategory subcategory = require(catalogs.activeSubcategory(category, request.getSubcategoryCode()),
+                "subcategoría", request.getSubcategoryCode());
+        Map<String, Size> sizes = resolveAll("talla", request.getSizeCodes(), catalogs::activeSize);
+        Map<String, Color> colors = resolveAll("color", request.getColorCodes(), catalogs::activeColor);
+        Map<String, Season> seasons = resolveAll("temporada", request.getSeasonCodes(), catalogs::activeSeason);
+
+        // ===== CONSTRUCCIÓN Y VERIFICACIÓN DE DUPLICADOS =====
+        int typeCode = Integer.parseInt(productType.getCode());
+        int categoryCode = Integer.parseInt(category.getCode());
+        int subcategoryCode = Integer.parseInt(subcategory.getCode());
+
+        List<Product> products = new ArrayList<>(variantCount);
+        long[] variantPrefixes = new long[variantCount];
+        for (Size size : sizes.values()) {
+            for (Color color : colors.values()) {
+                for (Season season : seasons.values()) {
+                    long prefix = SkuCode.encodePrefix(typeCode, categoryCode, subcategoryCode,
+                            Integer.parseInt(size.getCode()), Integer.parseInt(color.getCode()),
+                            Integer.parseInt(season.getCode()));
+                    String skuPrefix = SkuCode.formatPrefix(prefix);
+                    String name = nameGenerator.generate(catalogs, request.getName(), prefix,
+                            productType, category, subcategory, size, color, season);
+                    if (duplicateDetector.isDuplicate(skuPrefix, name)) {
+                        throw new DuplicateProductException(skuPrefix, name);
+                    }
+
+                    variantPrefixes[products.size()] = prefix;
+                    products.add(Product.builder()
+                            .skuPrefix(skuPrefix)
+                            .name(name)
+                            .description(request.getDescription())
+                            .productType(productType)
+                            .category(category)
+                            .subcategory(subcategory)
+                            .size(size)
+                            .color(color)
+                            .season(season)
+                            .build());
+                }
+            }
+        }
+
+        // ===== ASIGNACIÓN DE CONSECUTIVOS =====
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            int consecutive = allocateFree(variantPrefixes[i]);
+            product.setConsecutive(consecutive);
+            product.setSkuCode(SkuCode.toString(SkuCode.of(variantPrefixes[i], consecutive)));
+        }
+
+        // ===== PERSISTENCIA POR LOTES =====
+        try {
+            productBatchRepository.insertAll(products);
+        } catch (DuplicateKeyException e) {
+            // Otro proceso escribió en alguno de los prefijos: recargarlos desde la base de datos
+            Arrays.stream(variantPrefixes).forEach(consecutiveAllocator::evict);
+            throw e;
+        }
+        products.forEach(duplicateDetector::onCreated);
+        products.forEach(product -> productLookupService.invalidate(product.getSkuCode()));
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Generados {} SKUs para '{}' en {} ms", products.size(), request.getName(), elapsed);
+
+        return VariantMatrixResponse.builder()
+                .generated(products.size())
+                .elapsedMillis(elapsed)
+                .skus(products.stream()
+                        .map(product -> GeneratedSku.builder()
+                                .skuCode(product.getSkuCode())
+                                .name(product.getName())
+                                .sizeCode(product.getSize().getCode())
+                                .colorCode(product.getColor().getCode())
+                                .seasonCode(product.getSeason().getCode())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Resuelve un conjunto de códigos activos, ordenados por código.
+     */
+    private static <T> Map<String, T> resolveAll(String catalog, Set<String> codes, Function<String, T> resolver) {
+        Map<String, T> resolved = new TreeMap<>();
+        for (String code : codes) {
+            resolved.put(code, require(resolver.apply(code), catalog, code));
+        }
+        return resolved;
+    }
+
+    private static <T> T require(T entity, String catalog, String code) {
+        if (entity == null) {
+            throw new CatalogNotFoundException(catalog, code);
+        }
+        return entity;
+    }
+
+    /**
+     * Asigna el siguiente consecutivo cuyo SKU no exista ya en la base de datos.
+     */
+    private int allocateFree(long prefix) {
+        int consecutive = consecutiveAllocator.allocate(prefix);
+        while (duplicateDetector.isSkuTaken(SkuCode.toString(SkuCode.of(prefix, consecutive)))) {
+            consecutive = consecutiveAllocator.allocate(prefix);
+        }
+        return consecutive;
+    }
+}
@@ -0,0 +1,333 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.util.LongIntHashMap;
+import com.skugenerator.util.SkuCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bitácora de asignaciones de consecutivos en un archivo mapeado en memoria.
+ *
+ * Cada asignación agrega un registro de 12 bytes (prefijo long + consecutivo int) en
+ * app.storage.base-directory/journal/sku-allocations.journal. Al iniciar, la bitácora se
+ * lee secuencialmente para conocer el consecutivo más alto de cada prefijo sin consultar
+ * la tabla de productos. La compactación periódica (o al llenarse el archivo) reescribe
+ * un solo registro por prefijo con su consecutivo más alto.
+ *
+ * Las escrituras van al page cache del sistema operativo: sobreviven a una caída del
+ * proceso, pero no necesariamente a una del sistema. Por eso la bitácora se puede verificar
+ * contra la base de datos bajo demanda, y cualquier colisión posterior se corrige con el
+ * descarte del prefijo en el {@link ConsecutiveAllocator}.
+ *
+ * Formato: cabecera de 16 bytes (magic, versión, reservado) y registros de 12 bytes; un
+ * registro con consecutivo 0 nunca se escribió.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class AllocationJournal {
+
+    private static final int MAGIC = 0x534B554A; // "SKUJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES;
+    private static final String FILE_NAME = "sku-allocations.journal";
+
+    private final ProductRepository productRepository;
+    private final Path file;
+    private final boolean enabled;
+    private final StampedLock lock = new StampedLock();
+    private final AtomicLong nextOffset = new AtomicLong(HEADER_SIZE);
+
+    private volatile MappedByteBuffer buffer;
+    private volatile int capacity;
+    private volatile LocalDateTime lastCompaction;
+
+    public AllocationJournal(ProductRepository productRepository,
+                             @Value("${app.storage.base-directory:./storage}") String baseDirectory,
+                             @Value("${app.business.sku.journal.enabled:true}") boolean enabled,
+                             @Value("${app.business.sku.journal.file-size-mb:16}") int fileSizeMb) {
+        this.productRepository = productRepository;
+        this.file = Paths.get(baseDirectory, "journal", FILE_NAME);
+        this.enabled = enabled;
+        this.capacity = alignToRecords(fileSizeMb * 1024L * 1024L);
+    }
+
+    /**
+     * Abre o crea el archivo y ubica el final de los registros escritos.
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            log.info("Bitácora de asignaciones deshabilitada");
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file)) {
+                capacity = Math.max(capacity, alignToRecords(Files.size(file)));
+            }
+            buffer = map(file, capacity);
+            if (buffer.getInt(0) == 0) {
+                writeHeader(buffer);
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("El archivo " + file + " no es una bitácora de asignaciones válida");
+            }
+            nextOffset.set(endOfRecords(buffer, capacity));
+            log.info("Bitácora de asignaciones abierta: {} ({} registros, capacidad {})",
+                    file, records(), (capacity - HEADER_SIZE) / RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la bitácora de asignaciones " + file, e);
+        }
+    }
+
+    // ===================================================================
+    // ESCRITURA
+    // ===================================================================
+
+    /**
+     * Agrega una asignación a la bitácora.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param consecutive consecutivo asignado
+     */
+    public void append(long prefix, int consecutive) {
+        if (!enabled) {
+            return;
+        }
+        while (true) {
+            long stamp = lock.readLock();
+            try {
+                long offset = nextOffset.getAndAdd(RECORD_SIZE);
+                if (offset + RECORD_SIZE <= capacity) {
+                    // Escrituras absolutas en posiciones reservadas: no comparten estado entre hilos
+                    MappedByteBuffer target = buffer;
+                    target.putLong((int) offset, prefix);
+                    target.putInt((int) offset + Long.BYTES, consecutive);
+                    return;
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            compact(true);
+        }
+    }
+
+    /**
+     * Compacta la bitácora dejando un registro por prefijo.
+     */
+    @Scheduled(fixedDelayString = "${app.business.sku.journal.compaction-interval-ms:3600000}",
+            initialDelayString = "${app.business.sku.journal.compaction-interval-ms:3600000}")
+    public void compact() {
+        if (enabled) {
+            compact(false);
+        }
+    }
+
+    /**
+     * Fuerza la escritura del archivo a disco al detener la aplicación.
+     */
+    @PreDestroy
+    public void close() {
+        if (enabled && buffer != null) {
+            buffer.force();
+        }
+    }
+
+    // ===================================================================
+    // LECTURA
+    // ===================================================================
+
+    /**
+     * Lee la bitácora secuencialmente y calcula el consecutivo más alto de cada prefijo.
+     *
+     * @return consecutivo más alto por prefijo
+     */
+    public LongIntHashMap replay() {
+        if (!enabled) {
+            return new LongIntHashMap();
+        }
+        long stamp = lock.readLock();
+        try {
+            return summarize(buffer, (int) Math.min(nextOffset.get(), capacity));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Compara el consecutivo más alto de cada prefijo de la bitácora con la base de datos.
+     *
+     * Un prefijo "atrasado" tiene en la base de datos un consecutivo mayor que el de la
+     * bitácora (asignaciones que no quedaron registradas) y debe recargarse; uno
+     * "adelantado" solo refleja asignaciones revertidas y no es un problema.
+     *
+     * @return resultado de la verificación
+     */
+    public Map<String, Object> verify() {
+        long start = System.currentTimeMillis();
+        LongIntHashMap journal = replay();
+        List<Map<String, Object>> behind = new ArrayList<>();
+        int[] ahead = new int[1];
+        journal.forEach((prefix, highWaterMark) -> {
+            int persisted = productRepository.findMaxConsecutiveByPrefix(SkuCode.formatPrefix(prefix));
+            if (persisted > highWaterMark) {
+                Map<String, Object> mismatch = new LinkedHashMap<>();
+                mismatch.put("prefix", SkuCode.formatPrefix(prefix));
+                mismatch.put("journal", highWaterMark);
+                mismatch.put("database", persisted);
+                behind.add(mismatch);
+            } else if (persisted < highWaterMark) {
+                ahead[0]++;
+            }
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("prefixes", journal.size());
+        result.put("consistent", behind.isEmpty());
+        result.put("behind", behind);
+        result.put("ahead", ahead[0]);
+        result.put("elapsedMillis", System.currentTimeMillis() - start);
+        if (!behind.isEmpty()) {
+            log.warn("La bitácora de asignaciones está atrasada en {} prefijos", behind.size());
+        }
+        return result;
+    }
+
+    /**
+     * Estado actual de la bitácora.
+     *
+     * @return datos del archivo y de la última compactación
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        if (enabled) {
+            status.put("file", file.toAbsolutePath().toString());
+            status.put("records", records());
+            status.put("capacity", (capacity - HEADER_SIZE) / RECORD_SIZE);
+            status.put("lastCompaction", lastCompaction);
+        }
+        return status;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private void compact(boolean full) {
+        long stamp = lock.writeLock();
+        try {
+            int end = (int) Math.min(nextOffset.get(), capacity);
+            if (full && nextOffset.get() + RECORD_SIZE <= capacity) {
+                return; // otro hilo ya compactó
+            }
+            long start = System.currentTimeMillis();
+            LongIntHashMap summary = summarize(buffer, end);
+
+            // Si después de compactar quedaría más de la mitad ocupada, duplicar el archivo
+            long needed = HEADER_SIZE + (long) summary.size() * RECORD_SIZE;
+            int newCapacity = needed * 2 > capacity ? alignToRecords(Math.min((long) capacity * 2, Integer.MAX_VALUE)) : capacity;
+
+            Path compacted = file.resolveSibling(FILE_NAME + ".compact");
+            Files.deleteIfExists(compacted);
+            MappedByteBuffer target = map(compacted, newCapacity);
+            writeHeader(target);
+            int[] offset = {HEADER_SIZE};
+            summary.forEach((prefix, highWaterMark) -> {
+                target.putLong(offset[0], prefix);
+                target.putInt(offset[0] + Long.BYTES, highWaterMark);
+                offset[0] += RECORD_SIZE;
+            });
+            target.force();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            buffer = target;
+            capacity = newCapacity;
+            nextOffset.set(offset[0]);
+            lastCompaction = LocalDateTime.now();
+            log.info("Bitácora de asignaciones compactada: {} registros a {} en {} ms",
+                    (end - HEADER_SIZE) / RECORD_SIZE, summary.size(), System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo compactar la bitácora de asignaciones", e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private long records() {
+        return (Math.min(nextOffset.get(), capacity) - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    private static LongIntHashMap summarize(MappedByteBuffer source, int end) {
+        LongIntHashMap summary = new LongIntHashMap(1024);
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+            int consecutive = source.getInt(offset + Long.BYTES);
+            if (consecutive > 0) {
+                summary.putMax(source.getLong(offset), consecutive);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Ubica el final del último registro escrito. Los registros vacíos intermedios (de
+     * escrituras concurrentes interrumpidas) se conservan y se ignoran al leer.
+     */
+    private static int endOfRecords(MappedByteBuffer source, int capacity) {
+        int end = HEADER_SIZE;
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= capacity; offset += RECORD_SIZE) {
+            if (source.getInt(offset + Long.BYTES) != 0) {
+                end = offset + RECORD_SIZE;
+            }
+        }
+        return end;
+    }
+
+    private static void writeHeader(MappedByteBuffer target) {
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+        target.putLong(8, 0L);
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static int alignToRecords(long size) {
+        long records = Math.max((size - HEADER_SIZE) / RECORD_SIZE, 1024);
+        return (int) Math.min(HEADER_SIZE + records * RECORD_SIZE, Integer.MAX_VALUE - RECORD_SIZE);
+    }
+}
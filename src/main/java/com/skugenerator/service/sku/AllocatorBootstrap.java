@@ -0,0 +1,108 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.repository.ProductHighWaterMarkRepository;
+import com.skugenerator.repository.SkuRangeReservationRepository;
+import com.skugenerator.util.LongIntHashMap;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstruye el estado del asignador de consecutivos al iniciar la aplicación, antes de
+ * que reporte estar lista.
+ *
+ * Si está habilitado, recorre con una sola consulta agrupada el consecutivo más alto de
+ * cada prefijo en la tabla de productos, junto con el último consecutivo de los rangos
+ * reservados por proveedores; luego lee secuencialmente la bitácora de
+ * asignaciones y conserva el mayor de ambos valores. Con la consulta agrupada completa y
+ * una sola instancia escribiendo, los prefijos que no aparecen se consideran vacíos, de
+ * modo que la primera asignación de cada prefijo tras un despliegue no consulta la base
+ * de datos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class AllocatorBootstrap {
+
+    private final ConsecutiveAllocator allocator;
+    private final OccupancyRegistry occupancyRegistry;
+    private final AllocationJournal journal;
+    private final ProductHighWaterMarkRepository highWaterMarkRepository;
+    private final SkuRangeReservationRepository rangeRepository;
+
+    @Value("${app.business.sku.bootstrap.grouped-scan.enabled:true}")
+    private boolean groupedScanEnabled;
+
+    @Value("${app.business.sku.bootstrap.grouped-scan.fetch-size:5000}")
+    private int fetchSize;
+
+    @Value("${app.business.sku.bootstrap.grouped-scan.progress-interval:50000}")
+    private int progressInterval;
+
+    @Value("${app.business.sku.allocation.mode:local}")
+    private String allocationMode;
+
+    public AllocatorBootstrap(ConsecutiveAllocator allocator, OccupancyRegistry occupancyRegistry,
+                              AllocationJournal journal, ProductHighWaterMarkRepository highWaterMarkRepository,
+                              SkuRangeReservationRepository rangeRepository) {
+        this.allocator = allocator;
+        this.occupancyRegistry = occupancyRegistry;
+        this.journal = journal;
+        this.highWaterMarkRepository = highWaterMarkRepository;
+        this.rangeRepository = rangeRepository;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void bootstrap() {
+        long start = System.currentTimeMillis();
+        LongIntHashMap highWaterMarks = groupedScanEnabled ? scanDatabase() : new LongIntHashMap();
+        if (groupedScanEnabled) {
+            for (SkuRangeReservationRepository.HighWaterMarkView range : rangeRepository.findHeldHighWaterMarks()) {
+                highWaterMarks.putMax(SkuCode.parsePrefix(range.getSkuPrefix()), range.getLastConsecutive());
+            }
+        }
+
+        if (journal.isEnabled()) {
+            LongIntHashMap journaled = journal.replay();
+            journaled.forEach(highWaterMarks::putMax);
+            log.info("Bitácora de asignaciones leída: {} prefijos", journaled.size());
+        }
+
+        int[] seeded = new int[1];
+        highWaterMarks.forEach((prefix, highWaterMark) -> {
+            if (allocator.seed(prefix, highWaterMark)) {
+                seeded[0]++;
+            }
+        });
+
+        if (groupedScanEnabled && "local".equals(allocationMode)) {
+            occupancyRegistry.markComplete();
+        }
+        log.info("Asignador de consecutivos inicializado: {} prefijos precargados en {} ms",
+                seeded[0], System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Recorre la consulta agrupada reportando el avance cada progress-interval prefijos.
+     */
+    private LongIntHashMap scanDatabase() {
+        long start = System.currentTimeMillis();
+        LongIntHashMap highWaterMarks = new LongIntHashMap(progressInterval);
+        int rows = highWaterMarkRepository.scan(fetchSize, (prefix, highWaterMark) -> {
+            highWaterMarks.put(prefix, highWaterMark);
+            if (highWaterMarks.size() % progressInterval == 0) {
+                log.info("Carga de consecutivos por prefijo: {} prefijos en {} ms",
+                        highWaterMarks.size(), System.currentTimeMillis() - start);
+            }
+        });
+        log.info("Carga de consecutivos por prefijo completa: {} prefijos en {} ms (fetch size {})",
+                rows, System.currentTimeMillis() - start, fetchSize);
+        return highWaterMarks;
+    }
+}
@@ -0,0 +1,329 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.util.SkuCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asignador en memoria de consecutivos SKU por prefijo.
+ *
+ * Cada prefijo de 9 dígitos (tipo + categoría + subcategoría + talla + color + temporada)
+ * se empaqueta como long y mantiene en memoria un bloque de consecutivos reservado en una
+ * {@link ConsecutiveSource}. La asignación dentro del bloque es un ciclo CAS sin bloqueos
+ * ni consultas a base de datos; solo el agotamiento del bloque vuelve a la fuente.
+ *
+ * La base de datos sigue siendo la autoridad: la restricción única sobre sku_code detecta
+ * cualquier colisión con escrituras externas, y en ese caso {@link #evict(long)} obliga a
+ * recargar el prefijo desde la fuente.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class ConsecutiveAllocator {
+
+    /** Capacidad inicial del mapa de prefijos */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ConcurrentHashMap<Long, PrefixState> prefixes;
+    private final ConsecutiveSource source;
+    private final OccupancyRegistry occupancyRegistry;
+    private final ConsecutiveFreeList freeList;
+    private final AllocationJournal journal;
+    private final WarmSkuPools warmPools;
+
+    /**
+     * Constructor del asignador.
+     *
+     * @param source fuente durable de bloques de consecutivos
+     * @param occupancyRegistry mapas de ocupación que se actualizan con cada asignación
+     * @param freeList consecutivos reutilizables de productos eliminados
+     * @param journal bitácora de asignaciones para la recuperación al reiniciar
+     * @param warmPools reservas precalentadas de los prefijos con más demanda
+     */
+    public ConsecutiveAllocator(ConsecutiveSource source, OccupancyRegistry occupancyRegistry,
+                                ConsecutiveFreeList freeList, AllocationJournal journal,
+                                WarmSkuPools warmPools) {
+        this.source = source;
+        this.occupancyRegistry = occupancyRegistry;
+        this.freeList = freeList;
+        this.journal = journal;
+        this.warmPools = warmPools;
+        this.prefixes = new ConcurrentHashMap<>(INITIAL_CAPACITY, 0.75f,
+                Runtime.getRuntime().availableProcessors());
+        log.info("Asignador de consecutivos inicializado con fuente {}", source.getClass().getSimpleName());
+    }
+
+    // ===================================================================
+    // ASIGNACIÓN
+    // ===================================================================
+
+    /**
+     * Asigna el siguiente consecutivo libre del prefijo. Si la reutilización está habilitada
+     * entrega primero los consecutivos liberados por productos eliminados y después lo que
+     * haya en la reserva precalentada del prefijo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return consecutivo asignado (MIN_CONSECUTIVE_VALUE..MAX_CONSECUTIVE_VALUE)
+     * @throws ConsecutiveExhaustedException si el prefijo ya no tiene consecutivos
+     */
+    public int allocate(long prefix) {
+        // La reutilización borra el producto eliminado: solo al entregar, nunca al llenar una reserva
+        int consecutive = freeList.take(prefix);
+        if (consecutive <= 0) {
+            consecutive = warmPools.poll(prefix);
+        }
+        if (consecutive <= 0) {
+            consecutive = reserveForPool(prefix);
+        }
+        journal.append(prefix, consecutive);
+        return consecutive;
+    }
+
+    /**
+     * Reserva un consecutivo del bloque local sin consultar la reserva precalentada ni la
+     * lista de reutilizables. Lo usa el {@link WarmPoolRefiller} para llenar las reservas;
+     * no se registra en la bitácora hasta que {@link #allocate(long)} lo entrega, de modo
+     * que lo que quede en una reserva no cuenta como usado al reiniciar.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return consecutivo reservado
+     * @throws ConsecutiveExhaustedException si el prefijo ya no tiene consecutivos
+     */
+    int reserveForPool(long prefix) {
+        PrefixState state = prefixes.computeIfAbsent(prefix, key -> new PrefixState());
+        while (true) {
+            LocalBlock block = state.block;
+            if (block != null) {
+                int consecutive = block.next();
+                if (consecutive > 0) {
+                    if (occupancyRegistry.markAllocated(prefix, consecutive)) {
+                        return consecutive;
+                    }
+                    continue; // Tomado por un rango reservado dentro del bloque
+                }
+            }
+            refill(prefix, state, block);
+        }
+    }
+
+    /**
+     * Reserva un rango contiguo de consecutivos de un prefijo. El rango queda marcado en el
+     * mapa de ocupación, así que el asignador ya no lo entrega, y se registra en la bitácora
+     * con un solo registro por su último consecutivo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param size cantidad de consecutivos
+     * @return rango reservado
+     * @throws ConsecutiveExhaustedException si el prefijo no tiene un rango libre de ese tamaño
+     */
+    public ConsecutiveBlock reserveRange(long prefix, int size) {
+        ConsecutiveBlock range = source.reserveRange(prefix, size);
+        for (int consecutive = range.getFirst(); consecutive <= range.getLast(); consecutive++) {
+            occupancyRegistry.markAllocated(prefix, consecutive); // Sin efecto si la fuente ya lo marcó
+        }
+        journal.append(prefix, range.getLast());
+        return range;
+    }
+
+    /**
+     * Libera un rango reservado que no llegó a usarse. Con la fuente local los consecutivos
+     * vuelven a estar disponibles; con la fuente de reservas entre nodos quedan como hueco.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param range rango a liberar
+     */
+    public void releaseRange(long prefix, ConsecutiveBlock range) {
+        for (int consecutive = range.getFirst(); consecutive <= range.getLast(); consecutive++) {
+            occupancyRegistry.markFree(prefix, consecutive);
+        }
+    }
+
+    /**
+     * Registra un consecutivo usado fuera del asignador, avanzando el bloque local si lo contiene.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param consecutive consecutivo observado
+     */
+    public void observe(long prefix, int consecutive) {
+        PrefixState state = prefixes.get(prefix);
+        LocalBlock block = state != null ? state.block : null;
+        if (block != null) {
+            block.advanceTo(consecutive);
+        }
+        occupancyRegistry.markAllocated(prefix, consecutive);
+    }
+
+    /**
+     * Precarga el consecutivo más alto conocido de un prefijo, de modo que la primera
+     * asignación no tenga que consultar la base de datos. No tiene efecto si el prefijo ya
+     * está en memoria.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param highWaterMark consecutivo más alto usado
+     * @return true si el prefijo se precargó
+     */
+    public boolean seed(long prefix, int highWaterMark) {
+        return occupancyRegistry.seed(prefix, highWaterMark);
+    }
+
+    /**
+     * Descarta el estado en memoria de un prefijo.
+     * La siguiente asignación lo recargará desde la fuente.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     */
+    public void evict(long prefix) {
+        prefixes.remove(prefix);
+        warmPools.clear(prefix);
+        occupancyRegistry.evict(prefix);
+        log.debug("Prefijo {} descartado del asignador de consecutivos", SkuCode.formatPrefix(prefix));
+    }
+
+    /**
+     * Obtiene el último consecutivo entregado de un prefijo sin cargarlo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return último consecutivo entregado, o -1 si el prefijo no está en memoria
+     */
+    public int peekHighWaterMark(long prefix) {
+        PrefixState state = prefixes.get(prefix);
+        LocalBlock block = state != null ? state.block : null;
+        return block != null ? block.cursor.get() : -1;
+    }
+
+    /**
+     * Cantidad de prefijos con estado en memoria.
+     *
+     * @return número de prefijos cargados
+     */
+    public int size() {
+        return prefixes.size();
+    }
+
+    /**
+     * Devuelve a la fuente los consecutivos reservados y no entregados al detener la aplicación,
+     * incluidos los que quedaban en las reservas precalentadas. Los de una reserva que quedan
+     * justo debajo del remanente de su bloque se devuelven junto con él; el resto se marca
+     * libre y, con la fuente de reservas entre nodos, queda como hueco.
+     */
+    @PreDestroy
+    public void releaseAll() {
+        Map<Long, int[]> pooled = warmPools.drainAll();
+        pooled.forEach((prefix, consecutives) -> {
+            for (int consecutive : consecutives) {
+                occupancyRegistry.markFree(prefix, consecutive);
+            }
+        });
+        int released = 0;
+        for (Map.Entry<Long, PrefixState> entry : prefixes.entrySet()) {
+            LocalBlock block = entry.getValue().block;
+            if (block == null) {
+                continue;
+            }
+            int firstUnused = extendUnusedTail(block.close(), pooled.get(entry.getKey()));
+            if (firstUnused <= block.last) {
+                try {
+                    source.release(entry.getKey(), firstUnused, block.last);
+                    released++;
+                } catch (RuntimeException e) {
+                    log.warn("No se pudo devolver el bloque del prefijo {}: {}",
+                            SkuCode.formatPrefix(entry.getKey()), e.getMessage());
+                }
+            }
+        }
+        prefixes.clear();
+        log.info("Asignador de consecutivos detenido, {} bloques devueltos, {} prefijos con reserva precalentada vaciada",
+                released, pooled.size());
+    }
+
+    /**
+     * Baja el inicio del remanente de un bloque mientras el consecutivo anterior esté en la
+     * reserva precalentada vaciada del prefijo.
+     */
+    private static int extendUnusedTail(int firstUnused, int[] pooled) {
+        if (pooled == null) {
+            return firstUnused;
+        }
+        Arrays.sort(pooled);
+        while (Arrays.binarySearch(pooled, firstUnused - 1) >= 0) {
+            firstUnused--;
+        }
+        return firstUnused;
+    }
+
+    private void refill(long prefix, PrefixState state, LocalBlock exhausted) {
+        synchronized (state) {
+            if (state.block != exhausted) {
+                return; // Otro hilo ya recargó el bloque
+            }
+            ConsecutiveBlock reserved = source.reserve(prefix);
+            state.block = new LocalBlock(reserved);
+            log.debug("Prefijo {} recargado con bloque {}", SkuCode.formatPrefix(prefix), reserved);
+        }
+    }
+
+    /**
+     * Estado mutable de un prefijo: el bloque local vigente.
+     */
+    private static final class PrefixState {
+        private volatile LocalBlock block;
+    }
+
+    /**
+     * Bloque local inmutable en sus límites, con cursor atómico del último consecutivo entregado.
+     */
+    private static final class LocalBlock {
+        private final int last;
+        private final AtomicInteger cursor;
+
+        private LocalBlock(ConsecutiveBlock block) {
+            this.last = block.getLast();
+            this.cursor = new AtomicInteger(block.getFirst() - 1);
+        }
+
+        /**
+         * Entrega el siguiente consecutivo del bloque.
+         *
+         * @return consecutivo entregado, o -1 si el bloque se agotó
+         */
+        private int next() {
+            while (true) {
+                int current = cursor.get();
+                if (current >= last) {
+                    return -1;
+                }
+                if (cursor.compareAndSet(current, current + 1)) {
+                    return current + 1;
+                }
+            }
+        }
+
+        private void advanceTo(int consecutive) {
+            int current;
+            while ((current = cursor.get()) < consecutive && consecutive <= last) {
+                if (cursor.compareAndSet(current, consecutive)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Agota el bloque para que ningún hilo siga entregando de él.
+         *
+         * @return primer consecutivo no entregado
+         */
+        private int close() {
+            return cursor.getAndSet(last) + 1;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.util.Constants;
+
+/**
+ * Bloque contiguo de consecutivos [first..last] reservado para un prefijo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class ConsecutiveBlock {
+
+    private final int first;
+    private final int last;
+
+    /**
+     * Crea un bloque de consecutivos.
+     *
+     * @param first primer consecutivo del bloque
+     * @param last último consecutivo del bloque (inclusive)
+     */
+    public ConsecutiveBlock(int first, int last) {
+        if (first < Constants.SkuCodes.MIN_CONSECUTIVE_VALUE
+                || last > Constants.SkuCodes.MAX_CONSECUTIVE_VALUE
+                || first > last) {
+            throw new IllegalArgumentException(
+                    String.format("Bloque de consecutivos inválido [%d..%d]", first, last));
+        }
+        this.first = first;
+        this.last = last;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getLast() {
+        return last;
+    }
+
+    /**
+     * Cantidad de consecutivos del bloque.
+     *
+     * @return tamaño del bloque
+     */
+    public int size() {
+        return last - first + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%03d..%03d]", first, last);
+    }
+}
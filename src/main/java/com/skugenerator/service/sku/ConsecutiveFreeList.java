@@ -0,0 +1,217 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.model.entity.ConsecutiveReuseAudit;
+import com.skugenerator.model.entity.Product;
+import com.skugenerator.repository.ConsecutiveReuseAuditRepository;
+import com.skugenerator.repository.ProductComponentRepository;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de consecutivos reutilizables por prefijo, liberados por productos eliminados lógicamente.
+ *
+ * Es opcional y se activa con app.business.sku.reuse.enabled. Cada prefijo se carga una
+ * sola vez desde sus productos inactivos y luego se mantiene con cada eliminación y
+ * restauración. El {@link ConsecutiveAllocator} consulta esta lista antes de avanzar en su
+ * bloque, entregando primero el menor consecutivo cuyo periodo de gracia ya venció.
+ *
+ * Reutilizar un consecutivo borra físicamente la fila del producto eliminado (para liberar
+ * su código SKU) y deja el registro en consecutive_reuse_audit, en una transacción propia.
+ * El borrado solo procede si el producto sigue inactivo, lo que también resuelve la carrera
+ * entre nodos que intenten reutilizar el mismo consecutivo. No se reutilizan los productos
+ * que aparecen en product_components ni los creados hace menos que la vigencia de las claves
+ * de idempotencia, cuya respuesta guardada todavía podría repetir el código SKU; esos
+ * consecutivos vuelven a la lista y se reintentan cuando vence la vigencia o, si el
+ * producto está referenciado, pasado un tiempo. Solo salen de la lista los productos que
+ * vuelven a estar activos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class ConsecutiveFreeList {
+
+    /** Margen sobre la vigencia de las claves de idempotencia */
+    private static final Duration REPLAY_MARGIN = Duration.ofHours(1);
+
+    /** Espera antes de reintentar un consecutivo cuyo producto forma parte de una lista de materiales */
+    private static final Duration REFERENCED_RETRY = Duration.ofHours(1);
+
+    private final ProductRepository productRepository;
+    private final ProductComponentRepository componentRepository;
+    private final ConsecutiveReuseAuditRepository auditRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, ReleasedConsecutives> released = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final Duration replayWindow;
+
+    public ConsecutiveFreeList(ProductRepository productRepository,
+                               ProductComponentRepository componentRepository,
+                               ConsecutiveReuseAuditRepository auditRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.business.sku.reuse.enabled:false}") boolean enabled,
+                               @Value("${app.business.sku.reuse.grace-period-days:30}") long gracePeriodDays,
+                               @Value("${app.business.idempotency.ttl-hours:24}") long idempotencyTtlHours) {
+        this.productRepository = productRepository;
+        this.componentRepository = componentRepository;
+        this.auditRepository = auditRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setTimeout(5);
+        this.enabled = enabled;
+        this.gracePeriod = Duration.ofDays(gracePeriodDays);
+        // La clave se guarda al final de la transacción que crea el producto
+        this.replayWindow = Duration.ofHours(idempotencyTtlHours).plus(REPLAY_MARGIN);
+        if (enabled) {
+            log.info("Reutilización de consecutivos habilitada con periodo de gracia de {} días", gracePeriodDays);
+        }
+    }
+
+    /**
+     * Toma un consecutivo reutilizable del prefijo y libera su código SKU.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return consecutivo reutilizable, o -1 si no hay ninguno disponible
+     */
+    public int take(long prefix) {
+        if (!enabled) {
+            return -1;
+        }
+        ReleasedConsecutives set = released(prefix);
+        long cutoff = System.currentTimeMillis() - gracePeriod.toMillis();
+        int consecutive;
+        while ((consecutive = set.takeEligible(cutoff)) > 0) {
+            if (reclaim(prefix, consecutive)) {
+                return consecutive;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Registra el consecutivo de un producto eliminado lógicamente, al confirmar la
+     * transacción en curso si la hay.
+     *
+     * @param product producto eliminado
+     */
+    public void onSoftDeleted(Product product) {
+        if (!enabled) {
+            return;
+        }
+        long prefix = SkuCode.parsePrefix(product.getSkuPrefix());
+        int consecutive = product.getConsecutive();
+        LocalDateTime releasedAt = product.getModifiedDate() != null ? product.getModifiedDate() : LocalDateTime.now();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    released(prefix).add(consecutive, toMillis(releasedAt));
+                }
+            });
+        } else {
+            released(prefix).add(consecutive, toMillis(releasedAt));
+        }
+    }
+
+    /**
+     * Quita de la lista el consecutivo de un producto restaurado.
+     *
+     * @param product producto restaurado
+     */
+    public void onRestored(Product product) {
+        if (enabled) {
+            released(SkuCode.parsePrefix(product.getSkuPrefix())).remove(product.getConsecutive());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private ReleasedConsecutives released(long prefix) {
+        return released.computeIfAbsent(prefix, key -> {
+            ReleasedConsecutives set = new ReleasedConsecutives();
+            for (ProductRepository.ReleasedView view : productRepository.findReleasedByPrefix(SkuCode.formatPrefix(key))) {
+                set.add(view.getConsecutive(), toMillis(view.getReleasedAt()));
+            }
+            return set;
+        });
+    }
+
+    /**
+     * Borra el producto eliminado que ocupa el código y registra la auditoría.
+     *
+     * @return true si el consecutivo quedó libre para este nodo
+     */
+    private boolean reclaim(long prefix, int consecutive) {
+        String skuCode = SkuCode.toString(SkuCode.of(prefix, consecutive));
+        Boolean reclaimed = transactionTemplate.execute(status -> {
+            Product previous = productRepository.findBySkuCode(skuCode).orElse(null);
+            if (previous == null) {
+                return true;
+            }
+            if (previous.isActive()) {
+                return false; // restaurado
+            }
+            if (componentRepository.isReferenced(previous.getId())) {
+                log.debug("Consecutivo {} no reutilizado: el producto forma parte de una lista de materiales", skuCode);
+                requeue(prefix, consecutive, LocalDateTime.now().plus(REFERENCED_RETRY));
+                return false;
+            }
+            LocalDateTime replayExpiry = previous.getCreatedDate().plus(replayWindow);
+            if (replayExpiry.isAfter(LocalDateTime.now())) {
+                log.debug("Consecutivo {} no reutilizado: su respuesta de idempotencia sigue vigente", skuCode);
+                requeue(prefix, consecutive, replayExpiry);
+                return false;
+            }
+            if (productRepository.deleteReleasedById(previous.getId()) == 0) {
+                return false; // restaurado o reutilizado por otro nodo
+            }
+            auditRepository.save(ConsecutiveReuseAudit.builder()
+                    .skuCode(skuCode)
+                    .skuPrefix(previous.getSkuPrefix())
+                    .consecutive(consecutive)
+                    .previousProductId(previous.getId())
+                    .previousName(previous.getName())
+                    .releasedAt(previous.getModifiedDate())
+                    .build());
+            return true;
+        });
+        if (Boolean.TRUE.equals(reclaimed)) {
+            log.info("Consecutivo reutilizado: {}", skuCode);
+        }
+        return Boolean.TRUE.equals(reclaimed);
+    }
+
+    /**
+     * Devuelve a la lista un consecutivo que todavía no puede reutilizarse, de modo que
+     * {@link #take(long)} lo vuelva a considerar a partir de la fecha indicada.
+     */
+    private void requeue(long prefix, int consecutive, LocalDateTime eligibleAt) {
+        released(prefix).add(consecutive, toMillis(eligibleAt) - gracePeriod.toMillis());
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,184 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.model.entity.ConsecutiveLease;
+import com.skugenerator.repository.ConsecutiveLeaseRepository;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Fuente de consecutivos para varias instancias de la aplicación.
+ *
+ * Cada nodo reserva bloques de consecutivos por prefijo en la tabla consecutive_leases
+ * con una transacción corta e independiente, y los reparte localmente a través del
+ * {@link ConsecutiveAllocator}. Así las instancias solo coordinan en base de datos una
+ * vez por bloque y no una vez por SKU.
+ *
+ * Al detener la aplicación el remanente no usado se devuelve si el bloque del nodo sigue
+ * siendo el último reservado del prefijo; en caso contrario el remanente queda como hueco.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.business.sku.allocation.mode", havingValue = "lease")
+public class ConsecutiveLeaseService implements ConsecutiveSource {
+
+    private final ConsecutiveLeaseRepository leaseRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.business.sku.allocation.node-id:${HOSTNAME:sku-generator}}")
+    private String nodeId;
+
+    @Value("${app.business.sku.allocation.lease.block-size:20}")
+    private int blockSize;
+
+    @Value("${app.business.sku.allocation.lease.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.business.sku.allocation.lease.max-retries:5}")
+    private int maxRetries;
+
+    public ConsecutiveLeaseService(ConsecutiveLeaseRepository leaseRepository,
+                                   ProductRepository productRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setTimeout(5);
+    }
+
+    // ===================================================================
+    // RESERVA Y DEVOLUCIÓN DE BLOQUES
+    // ===================================================================
+
+    @Override
+    public ConsecutiveBlock reserve(long prefix) {
+        String skuPrefix = SkuCode.formatPrefix(prefix);
+        ConsecutiveBlock block = withRetries(skuPrefix, () -> transactionTemplate.execute(status -> {
+            ConsecutiveLease lease = leaseRepository.findBySkuPrefix(skuPrefix)
+                    .orElseGet(() -> newLease(skuPrefix));
+
+            int first = lease.getLeasedUpTo() + 1;
+            if (first > Constants.SkuCodes.MAX_CONSECUTIVE_VALUE) {
+                throw new ConsecutiveExhaustedException(prefix);
+            }
+            int last = Math.min(lease.getLeasedUpTo() + blockSize, Constants.SkuCodes.MAX_CONSECUTIVE_VALUE);
+
+            lease.setLeasedUpTo(last);
+            lease.setOwnerNode(nodeId);
+            lease.setBlockFirst(first);
+            lease.setBlockLast(last);
+            lease.setExpiresAt(LocalDateTime.now().plusMinutes(ttlMinutes));
+            leaseRepository.saveAndFlush(lease);
+            return new ConsecutiveBlock(first, last);
+        }));
+        log.debug("Nodo {} reservó el bloque {} del prefijo {}", nodeId, block, skuPrefix);
+        return block;
+    }
+
+    /**
+     * Avanza la reserva del prefijo el tamaño del rango en una sola actualización de la fila,
+     * sin tocar el bloque vigente de ningún nodo.
+     */
+    @Override
+    public ConsecutiveBlock reserveRange(long prefix, int size) {
+        String skuPrefix = SkuCode.formatPrefix(prefix);
+        ConsecutiveBlock range = withRetries(skuPrefix, () -> transactionTemplate.execute(status -> {
+            ConsecutiveLease lease = leaseRepository.findBySkuPrefix(skuPrefix)
+                    .orElseGet(() -> newLease(skuPrefix));
+
+            int first = lease.getLeasedUpTo() + 1;
+            int last = lease.getLeasedUpTo() + size;
+            if (size < 1 || last > Constants.SkuCodes.MAX_CONSECUTIVE_VALUE) {
+                throw new ConsecutiveExhaustedException(prefix);
+            }
+            lease.setLeasedUpTo(last);
+            leaseRepository.saveAndFlush(lease);
+            return new ConsecutiveBlock(first, last);
+        }));
+        log.debug("Nodo {} reservó el rango {} del prefijo {}", nodeId, range, skuPrefix);
+        return range;
+    }
+
+    @Override
+    public void release(long prefix, int firstUnused, int last) {
+        String skuPrefix = SkuCode.formatPrefix(prefix);
+        Boolean returned = withRetries(skuPrefix, () -> transactionTemplate.execute(status -> {
+            ConsecutiveLease lease = leaseRepository.findBySkuPrefix(skuPrefix).orElse(null);
+            if (lease == null || !lease.isTailOwnedBy(nodeId, LocalDateTime.now())
+                    || lease.getBlockLast() != last) {
+                return false;
+            }
+            lease.setLeasedUpTo(firstUnused - 1);
+            lease.clearBlock();
+            leaseRepository.saveAndFlush(lease);
+            return true;
+        }));
+        if (Boolean.TRUE.equals(returned)) {
+            log.debug("Nodo {} devolvió los consecutivos [{}..{}] del prefijo {}", nodeId, firstUnused, last, skuPrefix);
+        } else {
+            log.debug("Los consecutivos [{}..{}] del prefijo {} quedan como hueco", firstUnused, last, skuPrefix);
+        }
+    }
+
+    /**
+     * Limpia periódicamente los bloques vencidos de todos los nodos.
+     */
+    @Scheduled(fixedDelayString = "${app.business.sku.allocation.lease.expiry-check-ms:60000}")
+    public void expireBlocks() {
+        Integer expired = transactionTemplate.execute(status -> leaseRepository.expireBlocks(LocalDateTime.now()));
+        if (expired != null && expired > 0) {
+            log.info("{} bloques de consecutivos vencidos", expired);
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Crea la reserva de un prefijo partiendo del consecutivo máximo ya persistido en productos.
+     */
+    private ConsecutiveLease newLease(String skuPrefix) {
+        ConsecutiveLease lease = new ConsecutiveLease();
+        lease.setSkuPrefix(skuPrefix);
+        lease.setLeasedUpTo(productRepository.findMaxConsecutiveByPrefix(skuPrefix));
+        return lease;
+    }
+
+    /**
+     * Reintenta la operación cuando otro nodo modificó la misma reserva de forma concurrente.
+     */
+    private <T> T withRetries(String skuPrefix, Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                log.debug("Conflicto en la reserva del prefijo {} (intento {}/{}), reintentando",
+                        skuPrefix, attempt, maxRetries);
+            }
+        }
+    }
+}
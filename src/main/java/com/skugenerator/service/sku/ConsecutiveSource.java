@@ -0,0 +1,47 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+
+/**
+ * Fuente durable de bloques de consecutivos para el {@link ConsecutiveAllocator}.
+ *
+ * El asignador entrega los consecutivos de un bloque en memoria y solo vuelve
+ * a la fuente cuando el bloque se agota.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public interface ConsecutiveSource {
+
+    /**
+     * Reserva el siguiente bloque de consecutivos de un prefijo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return bloque reservado
+     * @throws ConsecutiveExhaustedException si el prefijo ya no tiene consecutivos
+     */
+    ConsecutiveBlock reserve(long prefix);
+
+    /**
+     * Reserva un rango contiguo de consecutivos de un prefijo para entregarlo completo, por
+     * ejemplo a un proveedor que imprime sus etiquetas por adelantado.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param size cantidad de consecutivos
+     * @return rango reservado
+     * @throws ConsecutiveExhaustedException si el prefijo no tiene un rango libre de ese tamaño
+     */
+    ConsecutiveBlock reserveRange(long prefix, int size);
+
+    /**
+     * Devuelve la parte no usada de un bloque, si la fuente lo permite.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param firstUnused primer consecutivo no entregado
+     * @param last último consecutivo del bloque
+     */
+    default void release(long prefix, int firstUnused, int last) {
+        // Por defecto los consecutivos no usados se conservan en la fuente
+    }
+}
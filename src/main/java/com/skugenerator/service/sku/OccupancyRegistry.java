@@ -0,0 +1,219 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.model.dto.PrefixOccupancyReport;
+import com.skugenerator.repository.ProductRepository;
+import com.skugenerator.repository.SkuRangeReservationRepository;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Mapas de ocupación en memoria de los prefijos de SKU.
+ *
+ * Cada prefijo se carga desde la tabla de productos la primera vez que se consulta y a
+ * partir de ahí se mantiene con las asignaciones del {@link ConsecutiveAllocator}, de modo
+ * que buscar el siguiente consecutivo libre no vuelve a recorrer la tabla. Con varias
+ * instancias (modo lease) el mapa refleja solo lo asignado por este nodo más lo persistido
+ * al momento de la carga.
+ *
+ * Cuando el arranque ya cargó todos los prefijos con productos ({@link #markComplete()}),
+ * un prefijo ausente se da por vacío sin consultar la base de datos; solo los prefijos
+ * descartados por una colisión vuelven a cargarse desde la tabla.
+ *
+ * También calcula el pronóstico de agotamiento de los prefijos cargados.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class OccupancyRegistry {
+
+    private final ConcurrentHashMap<Long, PrefixOccupancy> occupancies = new ConcurrentHashMap<>();
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+    private final LongFunction<List<Integer>> occupiedLoader;
+    private volatile boolean complete;
+
+    @Value("${app.business.sku.occupancy.warning-ratio:0.9}")
+    private double warningRatio = 0.9;
+
+    /**
+     * Constructor usado por Spring. Un prefijo se carga con los consecutivos de sus productos
+     * más los de los rangos reservados o confirmados por proveedores.
+     *
+     * @param productRepository repositorio de productos
+     * @param rangeRepository repositorio de rangos reservados
+     */
+    @Autowired
+    public OccupancyRegistry(ProductRepository productRepository, SkuRangeReservationRepository rangeRepository) {
+        this(prefix -> {
+            String skuPrefix = SkuCode.formatPrefix(prefix);
+            List<Integer> occupied = new ArrayList<>(productRepository.findConsecutivesByPrefix(skuPrefix));
+            for (SkuRangeReservationRepository.RangeView range : rangeRepository.findHeldRanges(skuPrefix)) {
+                for (int consecutive = range.getFirstConsecutive(); consecutive <= range.getLastConsecutive(); consecutive++) {
+                    occupied.add(consecutive);
+                }
+            }
+            return occupied;
+        });
+    }
+
+    /**
+     * Constructor con un cargador arbitrario de los consecutivos usados por prefijo.
+     *
+     * @param occupiedLoader función que retorna los consecutivos usados de un prefijo
+     */
+    public OccupancyRegistry(LongFunction<List<Integer>> occupiedLoader) {
+        this.occupiedLoader = occupiedLoader;
+    }
+
+    /**
+     * Obtiene el mapa de ocupación del prefijo, cargándolo si no está en memoria.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return mapa de ocupación
+     */
+    public PrefixOccupancy occupancy(long prefix) {
+        return occupancies.computeIfAbsent(prefix, key -> {
+            if (complete && !stale.remove(key)) {
+                return PrefixOccupancy.upTo(0);
+            }
+            PrefixOccupancy occupancy = new PrefixOccupancy(occupiedLoader.apply(key));
+            log.debug("Ocupación del prefijo {} cargada: {} usados", SkuCode.formatPrefix(key), occupancy.used());
+            return occupancy;
+        });
+    }
+
+    /**
+     * Carga el mapa de un prefijo a partir de su consecutivo más alto, sin consultar la
+     * base de datos. No tiene efecto si el prefijo ya está en memoria.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param highWaterMark consecutivo más alto usado
+     * @return true si el prefijo se cargó
+     */
+    public boolean seed(long prefix, int highWaterMark) {
+        return occupancies.putIfAbsent(prefix, PrefixOccupancy.upTo(highWaterMark)) == null;
+    }
+
+    /**
+     * Indica que todos los prefijos con productos ya se cargaron, de modo que los prefijos
+     * ausentes se consideran vacíos. Solo es válido con una sola instancia escribiendo.
+     */
+    public void markComplete() {
+        complete = true;
+    }
+
+    /**
+     * Registra un consecutivo asignado.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param consecutive consecutivo asignado
+     * @return true si el consecutivo estaba libre
+     */
+    public boolean markAllocated(long prefix, int consecutive) {
+        PrefixOccupancy occupancy = occupancy(prefix);
+        if (!occupancy.markAllocated(consecutive)) {
+            return false;
+        }
+        warnIfNearExhaustion(prefix, occupancy, 1);
+        return true;
+    }
+
+    /**
+     * Marca como asignada la primera racha libre de consecutivos contiguos del prefijo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param size cantidad de consecutivos
+     * @return primer consecutivo de la racha, o -1 si no hay una racha libre de ese tamaño
+     */
+    public int claimRun(long prefix, int size) {
+        PrefixOccupancy occupancy = occupancy(prefix);
+        int first = occupancy.claimRun(size);
+        if (first > 0) {
+            warnIfNearExhaustion(prefix, occupancy, size);
+        }
+        return first;
+    }
+
+    /**
+     * Registra un consecutivo liberado.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param consecutive consecutivo liberado
+     */
+    public void markFree(long prefix, int consecutive) {
+        occupancy(prefix).markFree(consecutive);
+    }
+
+    /**
+     * Descarta el mapa de un prefijo para que se recargue desde la base de datos.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     */
+    public void evict(long prefix) {
+        if (complete) {
+            stale.add(prefix);
+        }
+        occupancies.remove(prefix);
+    }
+
+    /**
+     * Cantidad de prefijos con mapa en memoria.
+     *
+     * @return número de prefijos cargados
+     */
+    public int size() {
+        return occupancies.size();
+    }
+
+    /**
+     * Obtiene los prefijos cargados más cercanos a agotarse.
+     *
+     * @param limit cantidad máxima de prefijos
+     * @return prefijos ordenados de mayor a menor ocupación
+     */
+    public List<PrefixOccupancyReport> nearestExhaustion(int limit) {
+        return occupancies.entrySet().stream()
+                .sorted(Comparator.comparingInt(
+                        (Map.Entry<Long, PrefixOccupancy> entry) -> entry.getValue().free()))
+                .limit(limit)
+                .map(entry -> report(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Avisa una sola vez, cuando los consecutivos recién marcados cruzan el umbral de ocupación.
+     */
+    private void warnIfNearExhaustion(long prefix, PrefixOccupancy occupancy, int marked) {
+        int threshold = (int) Math.ceil(PrefixOccupancy.USABLE * warningRatio);
+        int used = occupancy.used();
+        if (used >= threshold && used - marked < threshold) {
+            log.warn("El prefijo {} alcanzó {} de {} consecutivos usados",
+                    SkuCode.formatPrefix(prefix), used, PrefixOccupancy.USABLE);
+        }
+    }
+
+    private PrefixOccupancyReport report(long prefix, PrefixOccupancy occupancy) {
+        double rate = occupancy.allocationsPerHour();
+        return PrefixOccupancyReport.builder()
+                .prefix(SkuCode.formatPrefix(prefix))
+                .used(occupancy.used())
+                .free(occupancy.free())
+                .fillRatio(occupancy.fillRatio())
+                .allocationsPerHour(rate)
+                .hoursToExhaustion(rate > 0 ? occupancy.free() / rate : null)
+                .build();
+    }
+}
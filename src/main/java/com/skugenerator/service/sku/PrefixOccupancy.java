@@ -0,0 +1,312 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.util.Constants;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mapa de ocupación de los consecutivos de un prefijo: 1024 bits en 16 palabras de 64 bits.
+ *
+ * El bit N indica si el consecutivo N ya fue usado. El bit 0 y los bits por encima de
+ * MAX_CONSECUTIVE_VALUE se marcan desde el inicio como ocupados para que las búsquedas
+ * nunca los entreguen. Como el número de palabras es fijo, buscar el siguiente libre es
+ * O(1): a lo sumo 16 lecturas y un numberOfTrailingZeros.
+ *
+ * Las marcas son atómicas (CAS por palabra) y pueden hacerse desde varios hilos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class PrefixOccupancy {
+
+    private static final int WORDS = 16;
+    private static final int CAPACITY = WORDS * Long.SIZE;
+
+    /** Cantidad de consecutivos utilizables por prefijo */
+    public static final int USABLE = Constants.SkuCodes.MAX_CONSECUTIVE_VALUE - Constants.SkuCodes.MIN_CONSECUTIVE_VALUE + 1;
+
+    private final AtomicLongArray words = new AtomicLongArray(WORDS);
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicInteger allocationsSinceLoad = new AtomicInteger();
+    private final long loadedAtMillis;
+
+    /**
+     * Crea el mapa a partir de los consecutivos ya persistidos.
+     *
+     * @param occupied consecutivos usados del prefijo
+     */
+    public PrefixOccupancy(Iterable<Integer> occupied) {
+        markReserved();
+        for (Integer consecutive : occupied) {
+            if (consecutive != null && isUsable(consecutive) && setBit(consecutive)) {
+                used.incrementAndGet();
+            }
+        }
+        this.loadedAtMillis = System.currentTimeMillis();
+    }
+
+    private PrefixOccupancy(int highWaterMark) {
+        markReserved();
+        int last = Math.min(highWaterMark, Constants.SkuCodes.MAX_CONSECUTIVE_VALUE);
+        for (int consecutive = Constants.SkuCodes.MIN_CONSECUTIVE_VALUE; consecutive <= last; consecutive++) {
+            setBit(consecutive);
+        }
+        used.set(Math.max(last - Constants.SkuCodes.MIN_CONSECUTIVE_VALUE + 1, 0));
+        this.loadedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Crea el mapa conociendo solo el consecutivo más alto usado: todos los anteriores se
+     * consideran ocupados, igual que si se asignara siempre a partir del máximo.
+     *
+     * @param highWaterMark consecutivo más alto usado (0 si el prefijo está vacío)
+     * @return mapa de ocupación
+     */
+    public static PrefixOccupancy upTo(int highWaterMark) {
+        return new PrefixOccupancy(highWaterMark);
+    }
+
+    // ===================================================================
+    // MARCAS
+    // ===================================================================
+
+    /**
+     * Marca un consecutivo como asignado.
+     *
+     * @param consecutive consecutivo asignado
+     * @return true si estaba libre
+     */
+    public boolean markAllocated(int consecutive) {
+        if (!isUsable(consecutive) || !setBit(consecutive)) {
+            return false;
+        }
+        used.incrementAndGet();
+        allocationsSinceLoad.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Marca un consecutivo como libre.
+     *
+     * @param consecutive consecutivo liberado
+     * @return true si estaba ocupado
+     */
+    public boolean markFree(int consecutive) {
+        if (!isUsable(consecutive) || !clearBit(consecutive)) {
+            return false;
+        }
+        used.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Busca la primera racha libre de {@code size} consecutivos y la marca completa como
+     * asignada. La marca es atómica por palabra y, si otro hilo ocupa alguno de los bits
+     * entre medio, se deshace y se busca otra racha.
+     *
+     * @param size cantidad de consecutivos contiguos
+     * @return primer consecutivo de la racha, o -1 si no hay una racha libre de ese tamaño
+     */
+    public int claimRun(int size) {
+        if (size < 1 || size > USABLE) {
+            return -1;
+        }
+        int from = Constants.SkuCodes.MIN_CONSECUTIVE_VALUE;
+        while (true) {
+            int first = nextFree(from);
+            if (first < 0) {
+                return -1;
+            }
+            int end = freeRunEnd(first);
+            if (end - first + 1 < size) {
+                from = end + 1;
+                continue;
+            }
+            if (setRange(first, first + size - 1)) {
+                used.addAndGet(size);
+                allocationsSinceLoad.addAndGet(size);
+                return first;
+            }
+            from = first;
+        }
+    }
+
+    public boolean isOccupied(int consecutive) {
+        return !isUsable(consecutive) || (words.get(consecutive >>> 6) & (1L << consecutive)) != 0;
+    }
+
+    // ===================================================================
+    // BÚSQUEDAS
+    // ===================================================================
+
+    /**
+     * Busca el primer consecutivo libre a partir de uno dado.
+     *
+     * @param from consecutivo inicial (incluido)
+     * @return consecutivo libre, o -1 si no queda ninguno
+     */
+    public int nextFree(int from) {
+        if (from >= CAPACITY) {
+            return -1;
+        }
+        int index = Math.max(from, 0) >>> 6;
+        long free = ~words.get(index) & (-1L << from);
+        while (free == 0) {
+            if (++index == WORDS) {
+                return -1;
+            }
+            free = ~words.get(index);
+        }
+        return index * Long.SIZE + Long.numberOfTrailingZeros(free);
+    }
+
+    /**
+     * Busca el último consecutivo de la racha libre que empieza en {@code from}.
+     *
+     * @param from consecutivo libre
+     * @return último consecutivo libre contiguo
+     */
+    public int freeRunEnd(int from) {
+        int index = from >>> 6;
+        long occupied = words.get(index) & (-1L << from);
+        while (occupied == 0) {
+            occupied = words.get(++index); // los bits finales siempre están ocupados
+        }
+        return index * Long.SIZE + Long.numberOfTrailingZeros(occupied) - 1;
+    }
+
+    /**
+     * Obtiene el consecutivo ocupado más alto.
+     *
+     * @return consecutivo más alto usado, o 0 si el prefijo está vacío
+     */
+    public int highWaterMark() {
+        int topIndex = Constants.SkuCodes.MAX_CONSECUTIVE_VALUE >>> 6;
+        for (int index = topIndex; index >= 0; index--) {
+            long word = words.get(index);
+            if (index == topIndex) {
+                word &= -1L >>> (63 - (Constants.SkuCodes.MAX_CONSECUTIVE_VALUE & 63));
+            }
+            if (index == 0) {
+                word &= -1L << Constants.SkuCodes.MIN_CONSECUTIVE_VALUE;
+            }
+            if (word != 0) {
+                return index * Long.SIZE + 63 - Long.numberOfLeadingZeros(word);
+            }
+        }
+        return 0;
+    }
+
+    // ===================================================================
+    // ESTADÍSTICAS
+    // ===================================================================
+
+    public int used() {
+        return used.get();
+    }
+
+    public int free() {
+        return USABLE - used.get();
+    }
+
+    public double fillRatio() {
+        return (double) used.get() / USABLE;
+    }
+
+    /**
+     * Ritmo de asignación desde que el prefijo se cargó en memoria.
+     *
+     * @return consecutivos asignados por hora
+     */
+    public double allocationsPerHour() {
+        long elapsedMillis = Math.max(System.currentTimeMillis() - loadedAtMillis, 60_000L);
+        return allocationsSinceLoad.get() * 3_600_000.0 / elapsedMillis;
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private void markReserved() {
+        for (int bit = 0; bit < Constants.SkuCodes.MIN_CONSECUTIVE_VALUE; bit++) {
+            setBit(bit);
+        }
+        for (int bit = Constants.SkuCodes.MAX_CONSECUTIVE_VALUE + 1; bit < CAPACITY; bit++) {
+            setBit(bit);
+        }
+    }
+
+    private static boolean isUsable(int consecutive) {
+        return consecutive >= Constants.SkuCodes.MIN_CONSECUTIVE_VALUE
+                && consecutive <= Constants.SkuCodes.MAX_CONSECUTIVE_VALUE;
+    }
+
+    private boolean setBit(int bit) {
+        int index = bit >>> 6;
+        long mask = 1L << bit;
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Marca los bits [first..last] solo si todos estaban libres.
+     */
+    private boolean setRange(int first, int last) {
+        int firstIndex = first >>> 6;
+        int lastIndex = last >>> 6;
+        for (int index = firstIndex; index <= lastIndex; index++) {
+            long mask = rangeMask(index, first, last);
+            while (true) {
+                long current = words.get(index);
+                if ((current & mask) != 0) {
+                    for (int undo = firstIndex; undo < index; undo++) {
+                        clearMask(undo, rangeMask(undo, first, last));
+                    }
+                    return false;
+                }
+                if (words.compareAndSet(index, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long rangeMask(int index, int first, int last) {
+        int low = Math.max(first, index * Long.SIZE);
+        int high = Math.min(last, index * Long.SIZE + Long.SIZE - 1);
+        return (-1L >>> (Long.SIZE - 1 - (high & 63))) & (-1L << (low & 63));
+    }
+
+    private void clearMask(int index, long mask) {
+        while (true) {
+            long current = words.get(index);
+            if (words.compareAndSet(index, current, current & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    private boolean clearBit(int bit) {
+        int index = bit >>> 6;
+        long mask = 1L << bit;
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, current, current & ~mask)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.util.Constants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fuente de consecutivos para una sola instancia de la aplicación.
+ *
+ * Entrega como bloque la primera racha de consecutivos libres del prefijo según su
+ * mapa de ocupación, que se carga una sola vez desde la tabla de productos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Component
+@ConditionalOnProperty(name = "app.business.sku.allocation.mode", havingValue = "local", matchIfMissing = true)
+public class ProductHighWaterMarkSource implements ConsecutiveSource {
+
+    private final OccupancyRegistry occupancyRegistry;
+
+    /**
+     * Constructor de la fuente.
+     *
+     * @param occupancyRegistry mapas de ocupación por prefijo
+     */
+    public ProductHighWaterMarkSource(OccupancyRegistry occupancyRegistry) {
+        this.occupancyRegistry = occupancyRegistry;
+    }
+
+    @Override
+    public ConsecutiveBlock reserve(long prefix) {
+        PrefixOccupancy occupancy = occupancyRegistry.occupancy(prefix);
+        int first = occupancy.nextFree(Constants.SkuCodes.MIN_CONSECUTIVE_VALUE);
+        if (first < 0) {
+            throw new ConsecutiveExhaustedException(prefix);
+        }
+        return new ConsecutiveBlock(first, occupancy.freeRunEnd(first));
+    }
+
+    /**
+     * Toma la primera racha libre del tamaño pedido y la marca ocupada en el mismo paso,
+     * de modo que el asignador ya no la entrega aunque caiga dentro de su bloque vigente.
+     */
+    @Override
+    public ConsecutiveBlock reserveRange(long prefix, int size) {
+        int first = occupancyRegistry.claimRun(prefix, size);
+        if (first < 0) {
+            throw new ConsecutiveExhaustedException(prefix);
+        }
+        return new ConsecutiveBlock(first, first + size - 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.skugenerator.service.sku;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto ordenado de consecutivos liberados de un prefijo, con la fecha de liberación de cada uno.
+ *
+ * Se guarda en dos arreglos primitivos paralelos ordenados por consecutivo; como un prefijo
+ * tiene a lo sumo 999 consecutivos, insertar y quitar con búsqueda binaria y desplazamiento
+ * es suficiente y no crea objetos por elemento.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+final class ReleasedConsecutives {
+
+    private int[] consecutives = new int[8];
+    private long[] releasedAt = new long[8];
+    private volatile int size;
+
+    /**
+     * Agrega un consecutivo liberado. Si ya estaba, conserva la fecha más reciente.
+     *
+     * @param consecutive consecutivo liberado
+     * @param releasedAtMillis fecha de liberación en milisegundos
+     */
+    synchronized void add(int consecutive, long releasedAtMillis) {
+        int index = Arrays.binarySearch(consecutives, 0, size, consecutive);
+        if (index >= 0) {
+            releasedAt[index] = Math.max(releasedAt[index], releasedAtMillis);
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == consecutives.length) {
+            consecutives = Arrays.copyOf(consecutives, size * 2);
+            releasedAt = Arrays.copyOf(releasedAt, size * 2);
+        }
+        System.arraycopy(consecutives, insertAt, consecutives, insertAt + 1, size - insertAt);
+        System.arraycopy(releasedAt, insertAt, releasedAt, insertAt + 1, size - insertAt);
+        consecutives[insertAt] = consecutive;
+        releasedAt[insertAt] = releasedAtMillis;
+        size++;
+    }
+
+    /**
+     * Quita un consecutivo del conjunto.
+     *
+     * @param consecutive consecutivo a quitar
+     * @return true si estaba en el conjunto
+     */
+    synchronized boolean remove(int consecutive) {
+        int index = Arrays.binarySearch(consecutives, 0, size, consecutive);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Toma el menor consecutivo liberado antes de la fecha de corte.
+     *
+     * @param cutoffMillis solo se entregan consecutivos liberados hasta esta fecha
+     * @return consecutivo tomado, o -1 si ninguno cumplió el periodo de gracia
+     */
+    int takeEligible(long cutoffMillis) {
+        if (size == 0) {
+            return -1;
+        }
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                if (releasedAt[i] <= cutoffMillis) {
+                    int consecutive = consecutives[i];
+                    removeAt(i);
+                    return consecutive;
+                }
+            }
+            return -1;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(consecutives, index + 1, consecutives, index, size - index - 1);
+        System.arraycopy(releasedAt, index + 1, releasedAt, index, size - index - 1);
+        size--;
+    }
+}
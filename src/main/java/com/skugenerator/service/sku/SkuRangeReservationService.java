@@ -0,0 +1,213 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.model.dto.SkuRangeBatchResult;
+import com.skugenerator.model.dto.SkuRangeRequest;
+import com.skugenerator.model.dto.SkuRangeReservationResponse;
+import com.skugenerator.model.entity.SkuRangeReservation;
+import com.skugenerator.repository.SkuRangeReservationRepository;
+import com.skugenerator.service.catalog.CatalogCodeIndex;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reserva de rangos contiguos de consecutivos para proveedores que imprimen sus etiquetas
+ * antes de enviar la mercancía.
+ *
+ * El rango se toma del {@link ConsecutiveAllocator} sobre los mismos mapas de ocupación que
+ * usa la asignación normal: con la fuente local es una sola marca atómica sobre el mapa del
+ * prefijo y con la fuente entre nodos es una sola actualización de la fila de reservas del
+ * prefijo, nunca una operación por consecutivo. Cada rango se guarda como una fila con su
+ * vencimiento; las confirmaciones y liberaciones en bloque son una sola sentencia sobre
+ * todas las filas indicadas.
+ *
+ * Al liberar o vencer un rango, sus consecutivos vuelven al mapa de ocupación. Con la fuente
+ * entre nodos los demás nodos ya avanzaron más allá del rango, así que queda como hueco.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class SkuRangeReservationService {
+
+    private final SkuRangeReservationRepository repository;
+    private final ConsecutiveAllocator allocator;
+    private final CatalogCodeIndex catalogCodeIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.business.sku.range.default-ttl-hours:72}")
+    private int defaultTtlHours;
+
+    @Value("${app.business.sku.range.max-ttl-hours:720}")
+    private int maxTtlHours;
+
+    public SkuRangeReservationService(SkuRangeReservationRepository repository,
+                                      ConsecutiveAllocator allocator,
+                                      CatalogCodeIndex catalogCodeIndex,
+                                      PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.allocator = allocator;
+        this.catalogCodeIndex = catalogCodeIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ===================================================================
+    // RESERVA, CONFIRMACIÓN Y LIBERACIÓN
+    // ===================================================================
+
+    /**
+     * Reserva un rango contiguo de consecutivos de un prefijo.
+     *
+     * @param request prefijo, cantidad, proveedor y vigencia
+     * @return rango reservado
+     * @throws IllegalArgumentException si el prefijo no corresponde a catálogos activos
+     * @throws ConsecutiveExhaustedException si el prefijo no tiene un rango libre de ese tamaño
+     */
+    @Transactional
+    public SkuRangeReservationResponse reserve(SkuRangeRequest request) {
+        String skuPrefix = request.getSkuPrefix();
+        if (SkuValidationService.check(skuPrefix + "001", catalogCodeIndex.snapshot()) != 0) {
+            throw new IllegalArgumentException("El prefijo " + skuPrefix + " no corresponde a códigos de catálogo activos");
+        }
+        int ttlHours = request.getTtlHours() != null ? request.getTtlHours() : defaultTtlHours;
+        if (ttlHours > maxTtlHours) {
+            throw new IllegalArgumentException("La vigencia de una reserva no puede exceder " + maxTtlHours + " horas");
+        }
+
+        long prefix = SkuCode.parsePrefix(skuPrefix);
+        ConsecutiveBlock range = allocator.reserveRange(prefix, request.getQuantity());
+        onRollback(() -> allocator.releaseRange(prefix, range));
+
+        SkuRangeReservation reservation = repository.save(SkuRangeReservation.builder()
+                .skuPrefix(skuPrefix)
+                .firstConsecutive(range.getFirst())
+                .lastConsecutive(range.getLast())
+                .supplierCode(request.getSupplierCode())
+                .status(SkuRangeReservation.Status.RESERVED)
+                .expiresAt(LocalDateTime.now().plusHours(ttlHours))
+                .build());
+        log.info("Rango {} del prefijo {} reservado para el proveedor {}", range, skuPrefix, request.getSupplierCode());
+        return toResponse(reservation);
+    }
+
+    /**
+     * Confirma en bloque las reservas pendientes y no vencidas.
+     *
+     * @param ids identificadores de las reservas
+     * @return cantidad de reservas confirmadas
+     */
+    @Transactional
+    public SkuRangeBatchResult confirm(Collection<Long> ids) {
+        int confirmed = repository.confirm(ids, LocalDateTime.now());
+        log.info("Reservas de rango confirmadas: {} de {}", confirmed, ids.size());
+        return SkuRangeBatchResult.builder()
+                .requested(ids.size())
+                .updated(confirmed)
+                .build();
+    }
+
+    /**
+     * Libera en bloque las reservas pendientes y devuelve sus consecutivos.
+     *
+     * @param ids identificadores de las reservas
+     * @return cantidad de reservas liberadas
+     */
+    @Transactional
+    public SkuRangeBatchResult release(Collection<Long> ids) {
+        List<SkuRangeReservation> pending = repository.findPendingByIds(ids);
+        long consecutives = close(pending, SkuRangeReservation.Status.RELEASED);
+        log.info("Reservas de rango liberadas: {} de {} ({} consecutivos)", pending.size(), ids.size(), consecutives);
+        return SkuRangeBatchResult.builder()
+                .requested(ids.size())
+                .updated(pending.size())
+                .consecutivesReleased(consecutives)
+                .build();
+    }
+
+    /**
+     * Vence periódicamente las reservas no confirmadas a tiempo.
+     */
+    @Scheduled(fixedDelayString = "${app.business.sku.range.expiry-check-ms:60000}")
+    public void expireReservations() {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<SkuRangeReservation> overdue = repository.findExpired(LocalDateTime.now());
+            close(overdue, SkuRangeReservation.Status.EXPIRED);
+            return overdue.size();
+        });
+        if (expired != null && expired > 0) {
+            log.info("{} reservas de rango vencidas", expired);
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Cierra las reservas (ya bloqueadas) con una sola sentencia y devuelve sus consecutivos
+     * al confirmar la transacción.
+     */
+    private long close(List<SkuRangeReservation> reservations, SkuRangeReservation.Status status) {
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+        repository.release(reservations.stream().map(SkuRangeReservation::getId).toList(), status);
+        long consecutives = 0;
+        for (SkuRangeReservation reservation : reservations) {
+            consecutives += reservation.size();
+        }
+        onCommit(() -> reservations.forEach(reservation -> allocator.releaseRange(
+                SkuCode.parsePrefix(reservation.getSkuPrefix()),
+                new ConsecutiveBlock(reservation.getFirstConsecutive(), reservation.getLastConsecutive()))));
+        return consecutives;
+    }
+
+    private static void onCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void onRollback(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static SkuRangeReservationResponse toResponse(SkuRangeReservation reservation) {
+        long prefix = SkuCode.parsePrefix(reservation.getSkuPrefix());
+        return SkuRangeReservationResponse.builder()
+                .id(reservation.getId())
+                .skuPrefix(reservation.getSkuPrefix())
+                .firstConsecutive(reservation.getFirstConsecutive())
+                .lastConsecutive(reservation.getLastConsecutive())
+                .firstSku(SkuCode.toString(SkuCode.of(prefix, reservation.getFirstConsecutive())))
+                .lastSku(SkuCode.toString(SkuCode.of(prefix, reservation.getLastConsecutive())))
+                .supplierCode(reservation.getSupplierCode())
+                .status(reservation.getStatus().name())
+                .expiresAt(reservation.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.model.dto.SkuValidationError;
+import com.skugenerator.model.dto.SkuValidationReport;
+import com.skugenerator.service.catalog.CatalogCodeIndex;
+import com.skugenerator.service.catalog.CatalogSnapshot;
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Validación masiva de códigos SKU contra los catálogos en memoria.
+ *
+ * La entrada se lee por bloques de líneas; cada bloque se valida en paralelo en todos los
+ * núcleos y luego se acumula en el reporte antes de leer el siguiente, de modo que la
+ * memoria depende del tamaño del bloque y no del archivo. Cada SKU se decodifica una sola
+ * vez y sus seis componentes se verifican contra la {@link CatalogSnapshot} vigente, sin
+ * consultas a la base de datos.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Service
+public class SkuValidationService {
+
+    /**
+     * Motivos de rechazo, cada uno con su bit en la máscara de errores de un SKU.
+     */
+    public enum Reason {
+        FORMAT, PRODUCT_TYPE, CATEGORY, SUBCATEGORY, SIZE, COLOR, SEASON, CONSECUTIVE;
+
+        private final int bit = 1 << ordinal();
+    }
+
+    private static final Reason[] REASONS = Reason.values();
+
+    private final CatalogCodeIndex catalogCodeIndex;
+
+    @Value("${app.business.sku.validation.chunk-size:65536}")
+    private int chunkSize;
+
+    @Value("${app.business.sku.validation.max-errors:1000}")
+    private int maxErrors;
+
+    public SkuValidationService(CatalogCodeIndex catalogCodeIndex) {
+        this.catalogCodeIndex = catalogCodeIndex;
+    }
+
+    /**
+     * Valida un SKU por línea. Las líneas en blanco se ignoran.
+     *
+     * @param input stream de texto UTF-8 con un SKU por línea
+     * @return reporte de la validación
+     * @throws IOException si falla la lectura del stream
+     */
+    public SkuValidationReport validate(InputStream input) throws IOException {
+        long start = System.currentTimeMillis();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        CatalogSnapshot catalogs = catalogCodeIndex.snapshot();
+
+        String[] skus = new String[chunkSize];
+        long[] lines = new long[chunkSize];
+        int[] masks = new int[chunkSize];
+        long[] byReason = new long[REASONS.length];
+        List<SkuValidationError> errors = new ArrayList<>();
+        long total = 0;
+        long invalid = 0;
+        long lineNumber = 0;
+
+        String line;
+        int size = 0;
+        while (true) {
+            line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+                String sku = line.trim();
+                if (sku.isEmpty()) {
+                    continue;
+                }
+                skus[size] = sku;
+                lines[size] = lineNumber;
+                size++;
+            }
+            if (size == chunkSize || (line == null && size > 0)) {
+                int count = size;
+                IntStream.range(0, count).parallel().forEach(i -> masks[i] = check(skus[i], catalogs));
+                for (int i = 0; i < count; i++) {
+                    if (masks[i] != 0) {
+                        invalid++;
+                        countReasons(masks[i], byReason);
+                        if (errors.size() < maxErrors) {
+                            errors.add(new SkuValidationError(lines[i], skus[i], reasons(masks[i])));
+                        }
+                    }
+                }
+                total += count;
+                size = 0;
+            }
+            if (line == null) {
+                break;
+            }
+        }
+
+        Map<String, Long> invalidByReason = new LinkedHashMap<>();
+        for (Reason reason : REASONS) {
+            if (byReason[reason.ordinal()] > 0) {
+                invalidByReason.put(reason.name(), byReason[reason.ordinal()]);
+            }
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Validación masiva de SKUs: {} verificados, {} inválidos en {} ms", total, invalid, elapsed);
+        return SkuValidationReport.builder()
+                .total(total)
+                .valid(total - invalid)
+                .invalid(invalid)
+                .invalidByReason(invalidByReason)
+                .errors(errors)
+                .truncated(invalid > errors.size())
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * Verifica un SKU contra la instantánea de catálogos.
+     *
+     * @param text SKU textual
+     * @param catalogs catálogos indexados por código
+     * @return máscara de motivos de rechazo, 0 si el SKU es válido
+     */
+    static int check(String text, CatalogSnapshot catalogs) {
+        long sku = SkuCode.parse(text);
+        if (sku == SkuCode.INVALID) {
+            return Reason.FORMAT.bit;
+        }
+        int mask = 0;
+        int category = SkuCode.category(sku);
+        if (!catalogs.isProductTypeActive(SkuCode.type(sku))) mask |= Reason.PRODUCT_TYPE.bit;
+        if (!catalogs.isCategoryActive(category)) mask |= Reason.CATEGORY.bit;
+        if (!catalogs.isSubcategoryActive(SkuCode.subcategoryFullCode(sku))) mask |= Reason.SUBCATEGORY.bit;
+        if (!catalogs.isSizeActive(SkuCode.size(sku))) mask |= Reason.SIZE.bit;
+        if (!catalogs.isColorActive(SkuCode.color(sku))) mask |= Reason.COLOR.bit;
+        if (!catalogs.isSeasonActive(SkuCode.season(sku))) mask |= Reason.SEASON.bit;
+        if (SkuCode.consecutive(sku) < Constants.SkuCodes.MIN_CONSECUTIVE_VALUE) mask |= Reason.CONSECUTIVE.bit;
+        return mask;
+    }
+
+    private static void countReasons(int mask, long[] byReason) {
+        for (Reason reason : REASONS) {
+            if ((mask & reason.bit) != 0) {
+                byReason[reason.ordinal()]++;
+            }
+        }
+    }
+
+    private static List<String> reasons(int mask) {
+        List<String> reasons = new ArrayList<>(2);
+        for (Reason reason : REASONS) {
+            if ((mask & reason.bit) != 0) {
+                reasons.add(reason.name());
+            }
+        }
+        return reasons;
+    }
+}
@@ -0,0 +1,131 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.exception.ConsecutiveExhaustedException;
+import com.skugenerator.model.entity.Color;
+import com.skugenerator.util.SkuCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rellenador en segundo plano de las reservas precalentadas de consecutivos.
+ *
+ * En cada ciclo estima la tasa de demanda de cada prefijo con un promedio móvil
+ * exponencial, elige los top-prefixes prefijos de mayor tasa (los de colores populares,
+ * según {@link Color#getPopularColorCodes()}, pesan más) y ajusta el tamaño de su reserva
+ * a la demanda esperada durante lead-time-ms, entre min-size y max-size. Los prefijos sin
+ * reserva compiten con la demanda del último ciclo y solo los que entran al top abren una.
+ * Los prefijos que salen del top conservan lo ya reservado hasta consumirlo.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@Component
+public class WarmPoolRefiller {
+
+    /** Peso de la última medición en el promedio móvil de la tasa */
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private static final Set<Integer> POPULAR_COLORS = Arrays.stream(Color.getPopularColorCodes())
+            .map(Integer::valueOf)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final WarmSkuPools warmPools;
+    private final ConsecutiveAllocator allocator;
+
+    @Value("${app.business.sku.warm-pool.top-prefixes:16}")
+    private int topPrefixes;
+
+    @Value("${app.business.sku.warm-pool.min-size:2}")
+    private int minSize;
+
+    @Value("${app.business.sku.warm-pool.max-size:50}")
+    private int maxSize;
+
+    @Value("${app.business.sku.warm-pool.lead-time-ms:5000}")
+    private long leadTimeMs;
+
+    @Value("${app.business.sku.warm-pool.popular-color-weight:2.0}")
+    private double popularColorWeight;
+
+    @Value("${app.business.sku.warm-pool.refill-interval-ms:1000}")
+    private long refillIntervalMs;
+
+    private long lastRunNanos = System.nanoTime();
+
+    public WarmPoolRefiller(WarmSkuPools warmPools, ConsecutiveAllocator allocator) {
+        this.warmPools = warmPools;
+        this.allocator = allocator;
+    }
+
+    @Scheduled(fixedDelayString = "${app.business.sku.warm-pool.refill-interval-ms:1000}")
+    public void refill() {
+        if (!warmPools.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max((now - lastRunNanos) / 1e9, refillIntervalMs / 1000.0);
+        lastRunNanos = now;
+
+        Map<Long, WarmSkuPools.PrefixPool> pools = warmPools.pools();
+        List<Candidate> candidates = new ArrayList<>();
+        for (Map.Entry<Long, WarmSkuPools.PrefixPool> entry : pools.entrySet()) {
+            WarmSkuPools.PrefixPool pool = entry.getValue();
+            double observed = pool.demand.sumThenReset() / elapsedSeconds;
+            pool.rate = RATE_SMOOTHING * observed + (1 - RATE_SMOOTHING) * pool.rate;
+            pool.target = 0;
+            if (pool.rate < 0.01 && pool.size.get() == 0) {
+                pools.remove(entry.getKey(), pool); // Sin demanda ni reserva: dejar de seguirlo
+            } else if (pool.rate > 0) {
+                candidates.add(new Candidate(entry.getKey(), pool.rate, pool));
+            }
+        }
+        warmPools.takeColdDemand().forEach((prefix, requests) ->
+                candidates.add(new Candidate(prefix, RATE_SMOOTHING * requests / elapsedSeconds, null)));
+
+        candidates.sort(Comparator.comparingDouble(candidate -> -weightedRate(candidate)));
+        for (Candidate candidate : candidates.subList(0, Math.min(topPrefixes, candidates.size()))) {
+            WarmSkuPools.PrefixPool pool = candidate.pool() != null
+                    ? candidate.pool() : warmPools.open(candidate.prefix(), candidate.rate());
+            pool.target = (int) Math.min(maxSize, Math.max(minSize, Math.ceil(pool.rate * leadTimeMs / 1000.0)));
+            fill(candidate.prefix(), pool);
+        }
+    }
+
+    private void fill(long prefix, WarmSkuPools.PrefixPool pool) {
+        int generation = pool.generation();
+        try {
+            while (pool.size.get() < pool.target
+                    && pool.refill(generation, () -> allocator.reserveForPool(prefix))) {
+                // Se detiene si la reserva se vacía mientras se rellena
+            }
+        } catch (ConsecutiveExhaustedException e) {
+            pool.target = 0;
+            log.debug("Prefijo {} agotado, sin reserva precalentada", SkuCode.formatPrefix(prefix));
+        } catch (RuntimeException e) {
+            log.warn("No se pudo rellenar la reserva del prefijo {}: {}", SkuCode.formatPrefix(prefix), e.getMessage());
+        }
+    }
+
+    private double weightedRate(Candidate candidate) {
+        return POPULAR_COLORS.contains(SkuCode.color(SkuCode.of(candidate.prefix(), 0)))
+                ? candidate.rate() * popularColorWeight : candidate.rate();
+    }
+
+    /**
+     * Prefijo que compite por una reserva; pool es null si todavía no tiene una.
+     */
+    private record Candidate(long prefix, double rate, WarmSkuPools.PrefixPool pool) {
+    }
+}
@@ -0,0 +1,249 @@
+package com.skugenerator.service.sku;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Reservas precalentadas de consecutivos para los prefijos con más demanda.
+ *
+ * Cada prefijo caliente tiene una cola sin bloqueos de consecutivos ya reservados por el
+ * {@link ConsecutiveAllocator}; la ruta de una solicitud solo extrae de la cola. El
+ * {@link WarmPoolRefiller} decide qué prefijos son calientes, abre sus reservas y las
+ * rellena en segundo plano. Esta clase además cuenta la demanda de cada prefijo para que
+ * el rellenador pueda estimar su tasa; la de los prefijos sin reserva se acota a
+ * max-tracked-prefixes por ciclo del rellenador.
+ *
+ * Los consecutivos de una cola se registran en la bitácora solo al entregarse. Al detener
+ * la aplicación el {@link ConsecutiveAllocator} vacía las colas con {@link #drainAll()} y
+ * los devuelve junto con el remanente de sus bloques.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Component
+public class WarmSkuPools {
+
+    private static final String REQUESTS_METRIC = "sku.warm_pool.requests";
+
+    private final ConcurrentHashMap<Long, PrefixPool> pools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> coldDemand = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    @Value("${app.business.sku.warm-pool.max-tracked-prefixes:1024}")
+    private int maxTrackedPrefixes = 1024;
+    private final Counter hits;
+    private final Counter misses;
+
+    public WarmSkuPools(MeterRegistry meterRegistry,
+                        @Value("${app.business.sku.warm-pool.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("sku.warm_pool.size", this, WarmSkuPools::pooled)
+                .description("Consecutivos reservados en las reservas precalentadas")
+                .register(meterRegistry);
+        Gauge.builder("sku.warm_pool.prefixes", this, WarmSkuPools::warmPrefixes)
+                .description("Prefijos con reserva precalentada")
+                .register(meterRegistry);
+    }
+
+    // ===================================================================
+    // RUTA DE SOLICITUD
+    // ===================================================================
+
+    /**
+     * Registra la demanda del prefijo y extrae un consecutivo de su reserva si la tiene.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @return consecutivo reservado, o -1 si el prefijo no tiene reserva o está vacía
+     */
+    public int poll(long prefix) {
+        if (!enabled) {
+            return -1;
+        }
+        PrefixPool pool = pools.get(prefix);
+        if (pool == null) {
+            recordColdDemand(prefix);
+            misses.increment();
+            return -1;
+        }
+        pool.demand.increment();
+        Integer consecutive = pool.queue.poll();
+        if (consecutive == null) {
+            misses.increment();
+            return -1;
+        }
+        pool.size.decrementAndGet();
+        hits.increment();
+        return consecutive;
+    }
+
+    /**
+     * Descarta la reserva de un prefijo, por ejemplo tras una colisión de SKU.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     */
+    public void clear(long prefix) {
+        coldDemand.remove(prefix);
+        PrefixPool pool = pools.remove(prefix);
+        if (pool != null) {
+            pool.drain();
+        }
+    }
+
+    /**
+     * Vacía todas las reservas y deja de seguir sus prefijos.
+     *
+     * @return consecutivos que quedaban en cada reserva, por prefijo
+     */
+    public Map<Long, int[]> drainAll() {
+        Map<Long, int[]> drained = new HashMap<>();
+        for (Long prefix : pools.keySet()) {
+            PrefixPool pool = pools.remove(prefix);
+            if (pool == null) {
+                continue;
+            }
+            int[] consecutives = pool.drain();
+            if (consecutives.length > 0) {
+                drained.put(prefix, consecutives);
+            }
+        }
+        return drained;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ===================================================================
+    // USO DEL RELLENADOR
+    // ===================================================================
+
+    /**
+     * Prefijos con reserva abierta.
+     */
+    ConcurrentHashMap<Long, PrefixPool> pools() {
+        return pools;
+    }
+
+    /**
+     * Entrega y reinicia la demanda registrada desde el ciclo anterior para los prefijos
+     * sin reserva.
+     *
+     * @return solicitudes por prefijo
+     */
+    Map<Long, Long> takeColdDemand() {
+        Map<Long, Long> demand = new HashMap<>();
+        for (Long prefix : coldDemand.keySet()) {
+            LongAdder requests = coldDemand.remove(prefix);
+            if (requests != null) {
+                demand.put(prefix, requests.sum());
+            }
+        }
+        return demand;
+    }
+
+    /**
+     * Abre la reserva de un prefijo, o devuelve la que ya tenga.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado como long
+     * @param rate tasa de demanda inicial
+     * @return reserva del prefijo
+     */
+    PrefixPool open(long prefix, double rate) {
+        return pools.computeIfAbsent(prefix, key -> {
+            PrefixPool pool = new PrefixPool();
+            pool.rate = rate;
+            return pool;
+        });
+    }
+
+    private void recordColdDemand(long prefix) {
+        LongAdder requests = coldDemand.get(prefix);
+        if (requests == null) {
+            if (coldDemand.size() >= maxTrackedPrefixes) {
+                return; // Sin espacio hasta el siguiente ciclo del rellenador
+            }
+            requests = coldDemand.computeIfAbsent(prefix, key -> new LongAdder());
+        }
+        requests.increment();
+    }
+
+    private double pooled() {
+        return pools.values().stream().mapToInt(pool -> pool.size.get()).sum();
+    }
+
+    private double warmPrefixes() {
+        return pools.values().stream().filter(pool -> pool.target > 0).count();
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder(REQUESTS_METRIC)
+                .description("Asignaciones atendidas desde la reserva precalentada (hit) o de forma síncrona (miss)")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Reserva y demanda de un prefijo. La cola la comparten los hilos de solicitud y el
+     * rellenador; la tasa y el objetivo solo los modifica el rellenador.
+     *
+     * La generación cambia cada vez que la reserva se vacía. El rellenador la lee antes de
+     * rellenar y solo agrega consecutivos mientras no haya cambiado; reservar y agregar
+     * ocurren bajo el monitor de la reserva, así que un vaciado no puede quedar en medio.
+     */
+    static final class PrefixPool {
+        final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger size = new AtomicInteger();
+        final LongAdder demand = new LongAdder();
+        volatile double rate;
+        volatile int target;
+        private int generation;
+
+        synchronized int generation() {
+            return generation;
+        }
+
+        /**
+         * Reserva un consecutivo y lo agrega a la cola si la reserva no se vació desde que
+         * se leyó la generación.
+         *
+         * @param expected generación leída antes de rellenar
+         * @param reserve reserva del consecutivo
+         * @return false si la reserva se vació y no se agregó nada
+         */
+        synchronized boolean refill(int expected, IntSupplier reserve) {
+            if (generation != expected) {
+                return false;
+            }
+            queue.offer(reserve.getAsInt());
+            size.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * Vacía la cola y cambia la generación.
+         *
+         * @return consecutivos que quedaban en la cola
+         */
+        synchronized int[] drain() {
+            generation++;
+            int[] consecutives = queue.stream().mapToInt(Integer::intValue).toArray();
+            queue.clear();
+            size.set(0);
+            return consecutives;
+        }
+    }
+}
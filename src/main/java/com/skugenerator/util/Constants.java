@@ -61,6 +61,9 @@ public final class Constants {
         /** Patrón regex para validar código SKU completo */
         public static final String SKU_PATTERN = "^\\d{12}$";
 
+        /** Patrón regex para validar el prefijo de atributos del SKU */
+        public static final String PREFIX_PATTERN = "^\\d{9}$";
+
         /** Formato para el consecutivo con padding de ceros */
         public static final String CONSECUTIVE_FORMAT = "%03d";
 
@@ -245,6 +248,23 @@ public final class Constants {
         public static final long REPORTS_TTL = 600; // 10 minutos
         public static final long STATISTICS_TTL = 120; // 2 minutos
 
+        /** Regiones de la cache de segundo nivel de Hibernate */
+        public static final String PRODUCT_TYPES_REGION = "catalog.product_types";
+        public static final String CATEGORIES_REGION = "catalog.categories";
+        public static final String CATEGORY_SUBCATEGORIES_REGION = "catalog.categories.subcategories";
+        public static final String SUBCATEGORIES_REGION = "catalog.subcategories";
+        public static final String SIZES_REGION = "catalog.sizes";
+        public static final String COLORS_REGION = "catalog.colors";
+        public static final String SEASONS_REGION = "catalog.seasons";
+        public static final String PRODUCT_TYPES_NATURAL_ID_REGION = "catalog.product_types.natural_id";
+        public static final String CATEGORIES_NATURAL_ID_REGION = "catalog.categories.natural_id";
+        public static final String SUBCATEGORIES_NATURAL_ID_REGION = "catalog.subcategories.natural_id";
+        public static final String SIZES_NATURAL_ID_REGION = "catalog.sizes.natural_id";
+        public static final String COLORS_NATURAL_ID_REGION = "catalog.colors.natural_id";
+        public static final String SEASONS_NATURAL_ID_REGION = "catalog.seasons.natural_id";
+        public static final String ACTIVE_CATALOG_QUERY_REGION = "catalog.query.active";
+        public static final String SUBCATEGORIES_BY_CATEGORY_QUERY_REGION = "catalog.query.subcategories_by_category";
+
         private Cache() {}
     }
 
@@ -423,11 +443,14 @@ public final class Constants {
         public static final String REPORTS_ENDPOINT = API_BASE_PATH + "/reports";
         public static final String AUTH_ENDPOINT = API_BASE_PATH + "/auth";
         public static final String USERS_ENDPOINT = API_BASE_PATH + "/users";
+        public static final String SKU_RANGES_ENDPOINT = API_BASE_PATH + "/sku-ranges";
 
         /** Headers personalizados */
         public static final String HEADER_TOTAL_COUNT = "X-Total-Count";
         public static final String HEADER_PAGE_COUNT = "X-Page-Count";
         public static final String HEADER_CURRENT_PAGE = "X-Current-Page";
+        public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+        public static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
 
         /** Parámetros de consulta */
         public static final String PARAM_PAGE = "page";
@@ -0,0 +1,160 @@
+package com.skugenerator.util;
+
+import java.util.Arrays;
+
+/**
+ * Filtro de Bloom con contadores de 8 bits, que además de agregar permite quitar elementos.
+ *
+ * Responde "definitivamente no está" o "puede estar". Los contadores se saturan en 255 y
+ * a partir de ahí ya no se decrementan, por lo que un elemento quitado nunca produce un
+ * falso negativo. Los elementos se identifican por un hash de 64 bits ({@link #hash(CharSequence)}).
+ *
+ * Las escrituras están sincronizadas; las lecturas no, porque leer un byte nunca queda a
+ * medias y un elemento que se está agregando en paralelo puede verse o no sin perjuicio.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class CountingBloomFilter {
+
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashFunctions;
+    private long elements;
+
+    /**
+     * Crea un filtro dimensionado para la cantidad de elementos y la probabilidad de falsos positivos.
+     *
+     * @param expectedElements cantidad esperada de elementos
+     * @param falsePositiveProbability probabilidad de falso positivo deseada (0-1)
+     */
+    public CountingBloomFilter(long expectedElements, double falsePositiveProbability) {
+        if (expectedElements <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Parámetros inválidos para el filtro de Bloom");
+        }
+        long size = (long) Math.ceil(-expectedElements * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El filtro de Bloom excede el tamaño máximo: " + size);
+        }
+        this.counters = new byte[(int) Math.max(size, Long.SIZE)];
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters.length / expectedElements * Math.log(2)));
+    }
+
+    // ===================================================================
+    // OPERACIONES
+    // ===================================================================
+
+    public synchronized void add(long hash) {
+        long h1 = hash;
+        long h2 = secondHash(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1 + i * h2);
+            int count = counters[index] & 0xFF;
+            if (count < SATURATED) {
+                counters[index] = (byte) (count + 1);
+            }
+        }
+        elements++;
+    }
+
+    /**
+     * Quita un elemento agregado previamente. Quitar un elemento que nunca se agregó
+     * puede producir falsos negativos, así que solo debe usarse con elementos conocidos.
+     *
+     * @param hash hash del elemento
+     */
+    public synchronized void remove(long hash) {
+        if (!mightContain(hash)) {
+            return;
+        }
+        long h1 = hash;
+        long h2 = secondHash(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            int index = index(h1 + i * h2);
+            int count = counters[index] & 0xFF;
+            if (count > 0 && count < SATURATED) {
+                counters[index] = (byte) (count - 1);
+            }
+        }
+        elements--;
+    }
+
+    public boolean mightContain(long hash) {
+        long h1 = hash;
+        long h2 = secondHash(hash);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counters[index(h1 + i * h2)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(counters, (byte) 0);
+        elements = 0;
+    }
+
+    // ===================================================================
+    // ESTADÍSTICAS
+    // ===================================================================
+
+    public synchronized long elements() {
+        return elements;
+    }
+
+    public int size() {
+        return counters.length;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * Probabilidad teórica de falso positivo con la cantidad actual de elementos.
+     *
+     * @return (1 - e^(-k·n/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * elements() / counters.length), hashFunctions);
+    }
+
+    // ===================================================================
+    // HASH
+    // ===================================================================
+
+    /**
+     * Hash de 64 bits de un texto (FNV-1a con mezcla final de MurmurHash3), sin crear objetos.
+     *
+     * @param text texto a resumir
+     * @return hash de 64 bits
+     */
+    public static long hash(CharSequence text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long secondHash(long hash) {
+        return mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e4b13L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private int index(long combined) {
+        return (int) Long.remainderUnsigned(combined, counters.length);
+    }
+}
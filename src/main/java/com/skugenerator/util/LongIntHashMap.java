@@ -0,0 +1,170 @@
+package com.skugenerator.util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de long a int con direccionamiento abierto y sondeo lineal, sin objetos por entrada.
+ *
+ * Pensado para llaves como prefijos de SKU empaquetados, donde un HashMap&lt;Long, Integer&gt;
+ * crearía dos objetos por entrada. No es thread-safe. La llave {@link #EMPTY_KEY} está
+ * reservada y no se puede guardar.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class LongIntHashMap {
+
+    /** Llave reservada para marcar posiciones vacías */
+    public static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    /**
+     * Crea el mapa con capacidad para la cantidad de entradas indicada sin redimensionar.
+     *
+     * @param expectedSize cantidad esperada de entradas
+     */
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Obtiene el valor de una llave.
+     *
+     * @param key llave
+     * @param defaultValue valor retornado si la llave no existe
+     * @return valor asociado o defaultValue
+     */
+    public int get(long key, int defaultValue) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Asocia un valor a una llave, reemplazando el anterior.
+     *
+     * @param key llave
+     * @param value valor
+     */
+    public void put(long key, int value) {
+        int slot = slotFor(key);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size > keys.length * LOAD_FACTOR) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            values[slot] = value;
+        }
+    }
+
+    /**
+     * Guarda el mayor entre el valor actual y el dado.
+     *
+     * @param key llave
+     * @param value valor candidato
+     */
+    public void putMax(long key, int value) {
+        int index = indexOf(key);
+        if (index < 0) {
+            put(key, value);
+        } else if (value > values[index]) {
+            values[index] = value;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    /**
+     * Recorre todas las entradas.
+     *
+     * @param consumer acción por entrada
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Acción sobre una entrada llave-valor primitiva.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private int indexOf(long key) {
+        int slot = slotFor(key);
+        return keys[slot] == EMPTY_KEY ? -1 : slot;
+    }
+
+    private int slotFor(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Llave reservada: " + key);
+        }
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotFor(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,279 @@
+package com.skugenerator.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Cache concurrente y acotada de llaves long a valores, con direccionamiento abierto y sin
+ * objetos por entrada más allá del propio valor.
+ *
+ * La tabla se divide en segmentos con su propio {@link StampedLock}: las lecturas son
+ * optimistas (sin adquirir el lock salvo que coincidan con una escritura) y las escrituras
+ * bloquean solo su segmento. Cada llave vive en una ventana fija de posiciones a partir de
+ * su posición inicial, así que una búsqueda recorre a lo sumo {@link #WINDOW} posiciones y
+ * quitar una entrada no necesita marcas de borrado. Si la ventana está llena se desaloja
+ * con el algoritmo del reloj: cada acierto marca la posición y la inserción reemplaza la
+ * primera posición no marcada, desmarcando las que recorre.
+ *
+ * Cada entrada tiene su propio vencimiento. La llave {@link #EMPTY_KEY} está reservada.
+ *
+ * @param <V> tipo de los valores
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class LongKeyCache<V> {
+
+    /** Llave reservada para marcar posiciones vacías */
+    public static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    /** Posiciones recorridas por búsqueda a partir de la posición inicial de la llave */
+    public static final int WINDOW = 8;
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Crea la cache.
+     *
+     * @param capacity cantidad máxima de entradas (se redondea a potencia de 2)
+     */
+    @SuppressWarnings("unchecked")
+    public LongKeyCache(int capacity) {
+        int segmentCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4 - 1)) << 1;
+        int perSegment = Math.max(WINDOW * 2, Integer.highestOneBit(Math.max(1, capacity / segmentCount - 1)) << 1);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    /**
+     * Obtiene el valor vigente de una llave.
+     *
+     * @param key llave
+     * @param nowMillis hora actual en milisegundos
+     * @return valor, o null si la llave no está o venció
+     */
+    public V get(long key, long nowMillis) {
+        int hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+        long stamp = lock.tryOptimisticRead();
+        V value = segment.find(key, hash, nowMillis);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = segment.find(key, hash, nowMillis);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Guarda un valor, reemplazando el anterior de la llave o desalojando otra entrada.
+     *
+     * @param key llave
+     * @param value valor (no nulo)
+     * @param expiresAtMillis hora de vencimiento en milisegundos
+     */
+    public void put(long key, V value, long expiresAtMillis) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Llave reservada: " + key);
+        }
+        int hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            if (segment.put(key, hash, value, expiresAtMillis)) {
+                evictions.increment();
+            }
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Quita una llave.
+     *
+     * @param key llave
+     */
+    public void invalidate(long key) {
+        int hash = hash(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            segment.remove(key, hash);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Vacía la cache.
+     */
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Cantidad de entradas guardadas, incluidas las vencidas que aún no se reemplazaron.
+     *
+     * @return número de entradas
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Cantidad máxima de entradas.
+     *
+     * @return capacidad total de los segmentos
+     */
+    public int capacity() {
+        return segments.length * segments[0].keys.length;
+    }
+
+    /**
+     * Entradas vigentes desalojadas para hacer espacio.
+     *
+     * @return cantidad de desalojos
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private Segment<V> segmentFor(int hash) {
+        return segments[hash >>> segmentShift];
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Segmento de la tabla. Los arreglos solo se modifican con el lock de escritura tomado.
+     */
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private final long[] keys;
+        private final Object[] values;
+        private final long[] expiresAt;
+        private final byte[] referenced;
+        private final int mask;
+        private int size;
+
+        private Segment(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.expiresAt = new long[capacity];
+            this.referenced = new byte[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY_KEY);
+        }
+
+        @SuppressWarnings("unchecked")
+        private V find(long key, int hash, long nowMillis) {
+            int slot = hash & mask;
+            for (int probe = 0; probe < WINDOW; probe++, slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    Object value = values[slot];
+                    if (value == null || expiresAt[slot] <= nowMillis) {
+                        return null;
+                    }
+                    referenced[slot] = 1; // Carrera benigna: solo afecta la elección del desalojo
+                    return (V) value;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return true si se desalojó una entrada vigente
+         */
+        private boolean put(long key, int hash, V value, long expires) {
+            int home = hash & mask;
+            int free = -1;
+            int slot = home;
+            for (int probe = 0; probe < WINDOW; probe++, slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    store(slot, key, value, expires);
+                    return false;
+                }
+                if (free < 0 && keys[slot] == EMPTY_KEY) {
+                    free = slot;
+                }
+            }
+            if (free >= 0) {
+                size++;
+                store(free, key, value, expires);
+                return false;
+            }
+
+            long now = System.currentTimeMillis();
+            int victim = -1;
+            slot = home;
+            for (int probe = 0; probe < WINDOW; probe++, slot = (slot + 1) & mask) {
+                if (expiresAt[slot] <= now) {
+                    store(slot, key, value, expires);
+                    return false;
+                }
+                if (victim < 0) {
+                    if (referenced[slot] == 0) {
+                        victim = slot;
+                    } else {
+                        referenced[slot] = 0; // Segunda oportunidad
+                    }
+                }
+            }
+            store(victim >= 0 ? victim : home, key, value, expires);
+            return true;
+        }
+
+        private void store(int slot, long key, Object value, long expires) {
+            keys[slot] = key;
+            values[slot] = value;
+            expiresAt[slot] = expires;
+            referenced[slot] = 0;
+        }
+
+        private void remove(long key, int hash) {
+            int slot = hash & mask;
+            for (int probe = 0; probe < WINDOW; probe++, slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    keys[slot] = EMPTY_KEY;
+                    values[slot] = null;
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(keys, EMPTY_KEY);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+}
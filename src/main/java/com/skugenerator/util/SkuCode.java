@@ -0,0 +1,350 @@
+package com.skugenerator.util;
+
+/**
+ * Representación primitiva de un código SKU empaquetado en un long.
+ *
+ * El valor empaquetado es el propio número decimal de 12 dígitos
+ * (T CC S TT CC S ###), por lo que el orden numérico coincide con el orden
+ * textual y cada componente se obtiene con una división y un módulo.
+ * Ningún método de esta clase crea objetos salvo {@link #toString(long)} y
+ * {@link #formatPrefix(long)}, de modo que los SKUs pueden guardarse en arreglos
+ * primitivos y formatearse sobre buffers reutilizables.
+ *
+ * Ejemplo: "110110205001" se empaqueta como 110110205001L.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class SkuCode {
+
+    private SkuCode() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidades y no puede ser instanciada");
+    }
+
+    /** Valor retornado por {@link #parse(CharSequence)} cuando el texto no es un SKU válido */
+    public static final long INVALID = -1L;
+
+    /** Cantidad de dígitos del prefijo de atributos */
+    public static final int PREFIX_LENGTH =
+            Constants.SkuCodes.TOTAL_LENGTH - Constants.SkuCodes.CONSECUTIVE_LENGTH;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L
+    };
+
+    // Escalas decimales de cada segmento, calculadas desde la estructura en Constants.SkuCodes
+    private static final long CONSECUTIVE_SCALE = 1L;
+    private static final long SEASON_SCALE = CONSECUTIVE_SCALE * pow10(Constants.SkuCodes.CONSECUTIVE_LENGTH);
+    private static final long COLOR_SCALE = SEASON_SCALE * pow10(Constants.SkuCodes.SEASON_LENGTH);
+    private static final long SIZE_SCALE = COLOR_SCALE * pow10(Constants.SkuCodes.COLOR_LENGTH);
+    private static final long SUBCATEGORY_SCALE = SIZE_SCALE * pow10(Constants.SkuCodes.SIZE_LENGTH);
+    private static final long CATEGORY_SCALE = SUBCATEGORY_SCALE * pow10(Constants.SkuCodes.SUBCATEGORY_LENGTH);
+    private static final long TYPE_SCALE = CATEGORY_SCALE * pow10(Constants.SkuCodes.CATEGORY_LENGTH);
+
+    // ===================================================================
+    // CODIFICACIÓN
+    // ===================================================================
+
+    /**
+     * Empaqueta los siete componentes de un SKU.
+     *
+     * @param type código de tipo de producto (0-9)
+     * @param category código de categoría (0-99)
+     * @param subcategory código de subcategoría (0-9)
+     * @param size código de talla (0-99)
+     * @param color código de color (0-99)
+     * @param season código de temporada (0-9)
+     * @param consecutive consecutivo (0-999)
+     * @return SKU empaquetado
+     * @throws IllegalArgumentException si algún componente excede su segmento
+     */
+    public static long encode(int type, int category, int subcategory, int size,
+                              int color, int season, int consecutive) {
+        return checked(type, Constants.SkuCodes.TYPE_LENGTH, "tipo") * TYPE_SCALE
+                + checked(category, Constants.SkuCodes.CATEGORY_LENGTH, "categoría") * CATEGORY_SCALE
+                + checked(subcategory, Constants.SkuCodes.SUBCATEGORY_LENGTH, "subcategoría") * SUBCATEGORY_SCALE
+                + checked(size, Constants.SkuCodes.SIZE_LENGTH, "talla") * SIZE_SCALE
+                + checked(color, Constants.SkuCodes.COLOR_LENGTH, "color") * COLOR_SCALE
+                + checked(season, Constants.SkuCodes.SEASON_LENGTH, "temporada") * SEASON_SCALE
+                + checked(consecutive, Constants.SkuCodes.CONSECUTIVE_LENGTH, "consecutivo");
+    }
+
+    /**
+     * Empaqueta el prefijo de atributos (SKU sin consecutivo).
+     *
+     * @return prefijo de 9 dígitos empaquetado
+     */
+    public static long encodePrefix(int type, int category, int subcategory, int size, int color, int season) {
+        return prefix(encode(type, category, subcategory, size, color, season, 0));
+    }
+
+    /**
+     * Combina un prefijo empaquetado con un consecutivo.
+     *
+     * @param prefix prefijo de 9 dígitos empaquetado
+     * @param consecutive consecutivo (0-999)
+     * @return SKU empaquetado
+     */
+    public static long of(long prefix, int consecutive) {
+        return prefix * SEASON_SCALE + checked(consecutive, Constants.SkuCodes.CONSECUTIVE_LENGTH, "consecutivo");
+    }
+
+    // ===================================================================
+    // DECODIFICACIÓN
+    // ===================================================================
+
+    /** Obtiene el código de tipo de producto del SKU empaquetado */
+    public static int type(long sku) {
+        return (int) (sku / TYPE_SCALE);
+    }
+
+    /** Obtiene el código de categoría del SKU empaquetado */
+    public static int category(long sku) {
+        return (int) (sku / CATEGORY_SCALE % (TYPE_SCALE / CATEGORY_SCALE));
+    }
+
+    /** Obtiene el código de subcategoría del SKU empaquetado */
+    public static int subcategory(long sku) {
+        return (int) (sku / SUBCATEGORY_SCALE % (CATEGORY_SCALE / SUBCATEGORY_SCALE));
+    }
+
+    /** Obtiene el código completo de subcategoría (categoría + subcategoría) del SKU empaquetado */
+    public static int subcategoryFullCode(long sku) {
+        return (int) (sku / SUBCATEGORY_SCALE % (TYPE_SCALE / SUBCATEGORY_SCALE));
+    }
+
+    /** Obtiene el código de talla del SKU empaquetado */
+    public static int size(long sku) {
+        return (int) (sku / SIZE_SCALE % (SUBCATEGORY_SCALE / SIZE_SCALE));
+    }
+
+    /** Obtiene el código de color del SKU empaquetado */
+    public static int color(long sku) {
+        return (int) (sku / COLOR_SCALE % (SIZE_SCALE / COLOR_SCALE));
+    }
+
+    /** Obtiene el código de temporada del SKU empaquetado */
+    public static int season(long sku) {
+        return (int) (sku / SEASON_SCALE % (COLOR_SCALE / SEASON_SCALE));
+    }
+
+    /** Obtiene el consecutivo del SKU empaquetado */
+    public static int consecutive(long sku) {
+        return (int) (sku % SEASON_SCALE);
+    }
+
+    /**
+     * Obtiene el prefijo de atributos de 9 dígitos.
+     *
+     * @param sku SKU empaquetado
+     * @return prefijo empaquetado
+     */
+    public static long prefix(long sku) {
+        return sku / SEASON_SCALE;
+    }
+
+    // ===================================================================
+    // PARSEO
+    // ===================================================================
+
+    /**
+     * Parsea un SKU textual de 12 dígitos sin expresiones regulares ni substrings.
+     *
+     * @param text SKU textual
+     * @return SKU empaquetado, o {@link #INVALID} si el texto no tiene exactamente 12 dígitos
+     */
+    public static long parse(CharSequence text) {
+        if (text == null || text.length() != Constants.SkuCodes.TOTAL_LENGTH) {
+            return INVALID;
+        }
+        return parseDigits(text, Constants.SkuCodes.TOTAL_LENGTH);
+    }
+
+    /**
+     * Parsea un prefijo textual de 9 dígitos.
+     *
+     * @param text prefijo textual
+     * @return prefijo empaquetado
+     * @throws IllegalArgumentException si el texto no tiene exactamente 9 dígitos
+     */
+    public static long parsePrefix(CharSequence text) {
+        long prefix = text != null && text.length() == PREFIX_LENGTH ? parseDigits(text, PREFIX_LENGTH) : INVALID;
+        if (prefix == INVALID) {
+            throw new IllegalArgumentException("El prefijo debe tener " + PREFIX_LENGTH + " dígitos: " + text);
+        }
+        return prefix;
+    }
+
+    /**
+     * Verifica que el texto sea un SKU de 12 dígitos.
+     *
+     * @param text SKU textual
+     * @return true si tiene el formato correcto
+     */
+    public static boolean isValid(CharSequence text) {
+        return parse(text) != INVALID;
+    }
+
+    // ===================================================================
+    // FORMATEO
+    // ===================================================================
+
+    /**
+     * Escribe los 12 dígitos del SKU en un buffer de caracteres.
+     *
+     * @param sku SKU empaquetado
+     * @param dst buffer destino
+     * @param offset posición inicial en el buffer
+     * @return posición siguiente al último dígito escrito
+     */
+    public static int format(long sku, char[] dst, int offset) {
+        long remaining = sku;
+        int end = offset + Constants.SkuCodes.TOTAL_LENGTH;
+        for (int i = end - 1; i >= offset; i--) {
+            dst[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Escribe los 12 dígitos del SKU en un buffer de bytes ASCII.
+     *
+     * @param sku SKU empaquetado
+     * @param dst buffer destino
+     * @param offset posición inicial en el buffer
+     * @return posición siguiente al último dígito escrito
+     */
+    public static int format(long sku, byte[] dst, int offset) {
+        long remaining = sku;
+        int end = offset + Constants.SkuCodes.TOTAL_LENGTH;
+        for (int i = end - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Agrega los 12 dígitos del SKU a un StringBuilder reutilizable.
+     *
+     * @param sku SKU empaquetado
+     * @param sb destino
+     * @return el mismo StringBuilder
+     */
+    public static StringBuilder appendTo(long sku, StringBuilder sb) {
+        int start = sb.length();
+        sb.setLength(start + Constants.SkuCodes.TOTAL_LENGTH);
+        long remaining = sku;
+        for (int i = start + Constants.SkuCodes.TOTAL_LENGTH - 1; i >= start; i--) {
+            sb.setCharAt(i, (char) ('0' + (int) (remaining % 10)));
+            remaining /= 10;
+        }
+        return sb;
+    }
+
+    /**
+     * Convierte el SKU empaquetado en su representación textual de 12 dígitos.
+     *
+     * @param sku SKU empaquetado
+     * @return SKU textual
+     */
+    public static String toString(long sku) {
+        char[] digits = new char[Constants.SkuCodes.TOTAL_LENGTH];
+        format(sku, digits, 0);
+        return new String(digits);
+    }
+
+    /**
+     * Convierte un prefijo empaquetado en su representación textual de 9 dígitos.
+     *
+     * @param prefix prefijo empaquetado
+     * @return prefijo textual con ceros a la izquierda
+     */
+    public static String formatPrefix(long prefix) {
+        char[] digits = new char[PREFIX_LENGTH];
+        long remaining = prefix;
+        for (int i = PREFIX_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        return new String(digits);
+    }
+
+    // ===================================================================
+    // EAN-13
+    // ===================================================================
+
+    /**
+     * Calcula el dígito de control EAN-13 de un SKU. Los 12 dígitos del SKU son la carga
+     * útil del EAN-13: los dígitos en posición par (contando desde 1 a la izquierda)
+     * pesan 3 y los impares 1.
+     *
+     * @param sku SKU empaquetado
+     * @return dígito de control (0-9)
+     */
+    public static int ean13CheckDigit(long sku) {
+        long remaining = sku;
+        int sum = 0;
+        // El último dígito del SKU (posición 12) es par y pesa 3; se alterna hacia la izquierda
+        for (int i = 0; i < Constants.SkuCodes.TOTAL_LENGTH; i++) {
+            int digit = (int) (remaining % 10);
+            sum += (i & 1) == 0 ? digit * 3 : digit;
+            remaining /= 10;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Obtiene el código EAN-13 completo: el SKU seguido de su dígito de control.
+     *
+     * @param sku SKU empaquetado
+     * @return EAN-13 de 13 dígitos empaquetado
+     */
+    public static long toEan13(long sku) {
+        return sku * 10 + ean13CheckDigit(sku);
+    }
+
+    /**
+     * Convierte el SKU en su representación textual EAN-13 de 13 dígitos.
+     *
+     * @param sku SKU empaquetado
+     * @return EAN-13 textual
+     */
+    public static String toEan13String(long sku) {
+        char[] digits = new char[Constants.SkuCodes.TOTAL_LENGTH + 1];
+        format(sku, digits, 0);
+        digits[Constants.SkuCodes.TOTAL_LENGTH] = (char) ('0' + ean13CheckDigit(sku));
+        return new String(digits);
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private static long parseDigits(CharSequence text, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static long checked(int value, int digits, String segment) {
+        if (value < 0 || value >= pow10(digits)) {
+            throw new IllegalArgumentException(
+                    String.format("El valor %d excede el segmento de %s (%d dígitos)", value, segment, digits));
+        }
+        return value;
+    }
+
+    private static long pow10(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+}
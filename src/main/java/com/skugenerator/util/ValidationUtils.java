@@ -28,7 +28,6 @@ public final class ValidationUtils {
     private static final Pattern EMAIL_PATTERN = Pattern.compile(Constants.Validation.EMAIL_PATTERN);
     private static final Pattern USERNAME_PATTERN = Pattern.compile(Constants.Validation.USERNAME_PATTERN);
     private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("^#[0-9A-Fa-f]{6}$");
-    private static final Pattern SKU_CODE_PATTERN = Pattern.compile(Constants.SkuCodes.SKU_PATTERN);
 
     // ==========================================
     // VALIDACIONES DE CÓDIGOS SKU
@@ -141,7 +140,7 @@ public final class ValidationUtils {
             return false;
         }
 
-        boolean isValid = SKU_CODE_PATTERN.matcher(trimmedCode).matches();
+        boolean isValid = SkuCode.isValid(trimmedCode);
         log.debug("Validación código SKU completo '{}': {}", skuCode, isValid);
         return isValid;
     }
@@ -0,0 +1,159 @@
+-- ===================================================================
+-- Baseline schema: the six catalogs that make up a SKU.
+-- Matches spring.flyway.baseline-version (1.0.0), so databases created
+-- before Flyway was introduced are baselined here and only receive the
+-- later increments.
+-- ===================================================================
+
+CREATE TABLE product_types (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    code               VARCHAR(1)   NOT NULL,
+    name               VARCHAR(100) NOT NULL,
+    description        VARCHAR(500),
+    display_order      INTEGER      NOT NULL,
+    allows_composition BIT          NOT NULL,
+    color              VARCHAR(7),
+    active             BIT          NOT NULL,
+    version            BIGINT       NOT NULL,
+    created_date       DATETIME(6)  NOT NULL,
+    modified_date      DATETIME(6),
+    created_by         VARCHAR(50),
+    modified_by        VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_type_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_product_type_code ON product_types (code);
+CREATE INDEX idx_product_type_active ON product_types (active);
+CREATE INDEX idx_product_type_name ON product_types (name);
+
+CREATE TABLE categories (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    code                 VARCHAR(2)   NOT NULL,
+    name                 VARCHAR(100) NOT NULL,
+    description          VARCHAR(500),
+    display_order        INTEGER      NOT NULL,
+    allows_subcategories BIT          NOT NULL,
+    icon                 VARCHAR(50),
+    color                VARCHAR(7),
+    active               BIT          NOT NULL,
+    version              BIGINT       NOT NULL,
+    created_date         DATETIME(6)  NOT NULL,
+    modified_date        DATETIME(6),
+    created_by           VARCHAR(50),
+    modified_by          VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_category_code ON categories (code);
+CREATE INDEX idx_category_active ON categories (active);
+CREATE INDEX idx_category_name ON categories (name);
+
+CREATE TABLE subcategories (
+    id                         BIGINT       NOT NULL AUTO_INCREMENT,
+    code                       VARCHAR(1)   NOT NULL,
+    name                       VARCHAR(100) NOT NULL,
+    description                VARCHAR(500),
+    display_order              INTEGER      NOT NULL,
+    available_for_new_products BIT          NOT NULL,
+    category_id                BIGINT       NOT NULL,
+    keywords                   VARCHAR(255),
+    active                     BIT          NOT NULL,
+    version                    BIGINT       NOT NULL,
+    created_date               DATETIME(6)  NOT NULL,
+    modified_date              DATETIME(6),
+    created_by                 VARCHAR(50),
+    modified_by                VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_subcategory_category_code UNIQUE (category_id, code),
+    CONSTRAINT fk_subcategory_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_subcategory_code ON subcategories (code);
+CREATE INDEX idx_subcategory_category ON subcategories (category_id);
+CREATE INDEX idx_subcategory_active ON subcategories (active);
+CREATE INDEX idx_subcategory_category_code ON subcategories (category_id, code);
+
+CREATE TABLE sizes (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    code           VARCHAR(2)   NOT NULL,
+    name           VARCHAR(100) NOT NULL,
+    description    VARCHAR(500),
+    display_order  INTEGER      NOT NULL,
+    abbreviation   VARCHAR(10),
+    age_group      VARCHAR(50),
+    min_age_months INTEGER,
+    max_age_months INTEGER,
+    is_special     BIT          NOT NULL,
+    active         BIT          NOT NULL,
+    version        BIGINT       NOT NULL,
+    created_date   DATETIME(6)  NOT NULL,
+    modified_date  DATETIME(6),
+    created_by     VARCHAR(50),
+    modified_by    VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_size_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_size_code ON sizes (code);
+CREATE INDEX idx_size_active ON sizes (active);
+CREATE INDEX idx_size_name ON sizes (name);
+CREATE INDEX idx_size_age_group ON sizes (age_group);
+
+CREATE TABLE colors (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    code             VARCHAR(2)   NOT NULL,
+    name             VARCHAR(100) NOT NULL,
+    alternative_name VARCHAR(100),
+    description      VARCHAR(500),
+    display_order    INTEGER      NOT NULL,
+    hex_code         VARCHAR(7),
+    color_family     VARCHAR(50),
+    color_type       ENUM ('GRADIENT','MULTICOLOR','PATTERN','SOLID') NOT NULL,
+    suitable_seasons VARCHAR(20),
+    is_popular       BIT          NOT NULL,
+    active           BIT          NOT NULL,
+    version          BIGINT       NOT NULL,
+    created_date     DATETIME(6)  NOT NULL,
+    modified_date    DATETIME(6),
+    created_by       VARCHAR(50),
+    modified_by      VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_color_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_color_code ON colors (code);
+CREATE INDEX idx_color_active ON colors (active);
+CREATE INDEX idx_color_name ON colors (name);
+CREATE INDEX idx_color_family ON colors (color_family);
+CREATE INDEX idx_color_type ON colors (color_type);
+
+CREATE TABLE seasons (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    code          VARCHAR(1)   NOT NULL,
+    name          VARCHAR(100) NOT NULL,
+    description   VARCHAR(500),
+    display_order INTEGER      NOT NULL,
+    abbreviation  VARCHAR(10),
+    season_type   ENUM ('EVENT','REGULAR','SPECIAL','YEAR_ROUND') NOT NULL,
+    start_month   INTEGER,
+    end_month     INTEGER,
+    is_current    BIT          NOT NULL,
+    icon          VARCHAR(50),
+    color         VARCHAR(7),
+    active        BIT          NOT NULL,
+    version       BIGINT       NOT NULL,
+    created_date  DATETIME(6)  NOT NULL,
+    modified_date DATETIME(6),
+    created_by    VARCHAR(50),
+    modified_by   VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_season_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_season_code ON seasons (code);
+CREATE INDEX idx_season_active ON seasons (active);
+CREATE INDEX idx_season_name ON seasons (name);
+CREATE INDEX idx_season_type ON seasons (season_type);
+CREATE INDEX idx_season_start_month ON seasons (start_month);
@@ -0,0 +1,18 @@
+-- ===================================================================
+-- Denormalized 3-digit full code (category code + subcategory code)
+-- so SKU decoding looks subcategories up by a unique index instead of
+-- joining categories and filtering on CONCAT(). Kept in sync by the
+-- Subcategory entity callbacks.
+-- ===================================================================
+
+-- The temporary default lets the NOT NULL column be added to a populated table
+ALTER TABLE subcategories ADD COLUMN full_code VARCHAR(3) DEFAULT '' NOT NULL;
+
+UPDATE subcategories
+SET full_code = (SELECT CONCAT(c.code, subcategories.code)
+                 FROM categories c
+                 WHERE c.id = subcategories.category_id);
+
+ALTER TABLE subcategories ALTER COLUMN full_code DROP DEFAULT;
+
+CREATE UNIQUE INDEX uk_subcategory_full_code ON subcategories (full_code);
@@ -0,0 +1,40 @@
+-- ===================================================================
+-- Products with their SKU, split into the 9-digit attribute prefix and
+-- the consecutive so allocation can scan the high-water mark per prefix.
+-- ===================================================================
+
+CREATE TABLE products (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    sku_code        VARCHAR(12)   NOT NULL,
+    sku_prefix      VARCHAR(9)    NOT NULL,
+    consecutive     INTEGER       NOT NULL,
+    name            VARCHAR(255)  NOT NULL,
+    description     VARCHAR(1000),
+    product_type_id BIGINT        NOT NULL,
+    category_id     BIGINT        NOT NULL,
+    subcategory_id  BIGINT        NOT NULL,
+    size_id         BIGINT        NOT NULL,
+    color_id        BIGINT        NOT NULL,
+    season_id       BIGINT        NOT NULL,
+    active          BIT           NOT NULL,
+    version         BIGINT        NOT NULL,
+    created_date    DATETIME(6)   NOT NULL,
+    modified_date   DATETIME(6),
+    created_by      VARCHAR(50),
+    modified_by     VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_sku_code UNIQUE (sku_code),
+    CONSTRAINT fk_product_product_type FOREIGN KEY (product_type_id) REFERENCES product_types (id),
+    CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_product_subcategory FOREIGN KEY (subcategory_id) REFERENCES subcategories (id),
+    CONSTRAINT fk_product_size FOREIGN KEY (size_id) REFERENCES sizes (id),
+    CONSTRAINT fk_product_color FOREIGN KEY (color_id) REFERENCES colors (id),
+    CONSTRAINT fk_product_season FOREIGN KEY (season_id) REFERENCES seasons (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_product_sku_code ON products (sku_code);
+CREATE INDEX idx_product_prefix_consecutive ON products (sku_prefix, consecutive);
+CREATE INDEX idx_product_active ON products (active);
+CREATE INDEX idx_product_name ON products (name);
+CREATE INDEX idx_product_category ON products (category_id);
+CREATE INDEX idx_product_subcategory ON products (subcategory_id);
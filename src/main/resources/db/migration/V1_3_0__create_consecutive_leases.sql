@@ -0,0 +1,25 @@
+-- ===================================================================
+-- Per-prefix leases of consecutive blocks for multi-instance allocation
+-- (app.business.sku.allocation.mode=lease).
+-- ===================================================================
+
+CREATE TABLE consecutive_leases (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    sku_prefix    VARCHAR(9)   NOT NULL,
+    leased_up_to  INTEGER      NOT NULL,
+    owner_node    VARCHAR(100),
+    block_first   INTEGER,
+    block_last    INTEGER,
+    expires_at    DATETIME(6),
+    active        BIT          NOT NULL,
+    version       BIGINT       NOT NULL,
+    created_date  DATETIME(6)  NOT NULL,
+    modified_date DATETIME(6),
+    created_by    VARCHAR(50),
+    modified_by   VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_consecutive_lease_prefix UNIQUE (sku_prefix)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_consecutive_lease_prefix ON consecutive_leases (sku_prefix);
+CREATE INDEX idx_consecutive_lease_expires ON consecutive_leases (expires_at);
@@ -0,0 +1,23 @@
+-- ===================================================================
+-- Stored responses for requests sent with an Idempotency-Key header.
+-- ===================================================================
+
+CREATE TABLE idempotency_keys (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    endpoint        VARCHAR(100) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status_code     INTEGER      NOT NULL,
+    response_body   MEDIUMTEXT,
+    expires_at      DATETIME(6)  NOT NULL,
+    active          BIT          NOT NULL,
+    version         BIGINT       NOT NULL,
+    created_date    DATETIME(6)  NOT NULL,
+    modified_date   DATETIME(6),
+    created_by      VARCHAR(50),
+    modified_by     VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_key UNIQUE (endpoint, idempotency_key)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,23 @@
+-- ===================================================================
+-- Audit trail of consecutives reclaimed from soft-deleted products.
+-- ===================================================================
+
+CREATE TABLE consecutive_reuse_audit (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    sku_code            VARCHAR(12)  NOT NULL,
+    sku_prefix          VARCHAR(9)   NOT NULL,
+    consecutive         INTEGER      NOT NULL,
+    previous_product_id BIGINT,
+    previous_name       VARCHAR(255),
+    released_at         DATETIME(6),
+    active              BIT          NOT NULL,
+    version             BIGINT       NOT NULL,
+    created_date        DATETIME(6)  NOT NULL,
+    modified_date       DATETIME(6),
+    created_by          VARCHAR(50),
+    modified_by         VARCHAR(50),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_reuse_audit_sku_code ON consecutive_reuse_audit (sku_code);
+CREATE INDEX idx_reuse_audit_prefix ON consecutive_reuse_audit (sku_prefix);
@@ -0,0 +1,22 @@
+-- ===================================================================
+-- Bill of materials: components of composite and set products.
+-- ===================================================================
+
+CREATE TABLE product_components (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    parent_id     BIGINT       NOT NULL,
+    component_id  BIGINT       NOT NULL,
+    quantity      INTEGER      NOT NULL,
+    active        BIT          NOT NULL,
+    version       BIGINT       NOT NULL,
+    created_date  DATETIME(6)  NOT NULL,
+    modified_date DATETIME(6),
+    created_by    VARCHAR(50),
+    modified_by   VARCHAR(50),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_product_component UNIQUE (parent_id, component_id),
+    CONSTRAINT fk_product_component_parent FOREIGN KEY (parent_id) REFERENCES products (id),
+    CONSTRAINT fk_product_component_component FOREIGN KEY (component_id) REFERENCES products (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_product_component_component ON product_components (component_id);
@@ -0,0 +1,24 @@
+-- ===================================================================
+-- Consecutive ranges reserved for external suppliers.
+-- ===================================================================
+
+CREATE TABLE sku_range_reservations (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    sku_prefix        VARCHAR(9)   NOT NULL,
+    first_consecutive INTEGER      NOT NULL,
+    last_consecutive  INTEGER      NOT NULL,
+    supplier_code     VARCHAR(50)  NOT NULL,
+    status            ENUM ('CONFIRMED','EXPIRED','RELEASED','RESERVED') NOT NULL,
+    expires_at        DATETIME(6)  NOT NULL,
+    active            BIT          NOT NULL,
+    version           BIGINT       NOT NULL,
+    created_date      DATETIME(6)  NOT NULL,
+    modified_date     DATETIME(6),
+    created_by        VARCHAR(50),
+    modified_by       VARCHAR(50),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_sku_range_prefix_status ON sku_range_reservations (sku_prefix, status);
+CREATE INDEX idx_sku_range_status_expires ON sku_range_reservations (status, expires_at);
+CREATE INDEX idx_sku_range_supplier ON sku_range_reservations (supplier_code);
@@ -0,0 +1,161 @@
+package com.skugenerator.benchmark;
+
+import com.skugenerator.config.DatabaseConfig;
+import com.skugenerator.config.HibernateCacheConfig;
+import com.skugenerator.model.entity.*;
+import com.skugenerator.repository.ColorRepository;
+import com.skugenerator.repository.NaturalIdJpaRepository;
+import com.skugenerator.repository.SubcategoryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsquedas de catálogos por código a través de los repositorios: la consulta JPQL por
+ * código que generaba Spring Data frente a la resolución por id natural con cache de
+ * segundo nivel. Cada búsqueda corre en su propia transacción de solo lectura, como una
+ * petición, de modo que el contexto de persistencia siempre está vacío.
+ *
+ * Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.skugenerator.benchmark.CatalogCodeLookupBenchmark
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogCodeLookupBenchmark {
+
+    private static final int COLORS = 50;
+    private static final int SUBCATEGORIES = 10;
+
+    private HikariDataSource dataSource;
+    private CacheManager cacheManager;
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private ColorRepository colorRepository;
+    private SubcategoryRepository subcategoryRepository;
+    private Long categoryId;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        dataSource = (HikariDataSource) new DatabaseConfig().testDataSource();
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager(HibernateCacheConfig.DEFAULT_REGIONS);
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, PhysicalNamingStrategyStandardImpl.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, ImplicitNamingStrategyLegacyJpaImpl.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName())
+                .applySetting(ConfigSettings.CACHE_MANAGER, cacheManager)
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        for (Class<?> entity : List.of(ProductType.class, Category.class, Subcategory.class, Size.class,
+                Color.class, Season.class, Product.class)) {
+            sources.addAnnotatedClass(entity);
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(sessionFactory));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(entityManager);
+        factory.setRepositoryBaseClass(NaturalIdJpaRepository.class);
+        colorRepository = factory.getRepository(ColorRepository.class);
+        subcategoryRepository = factory.getRepository(SubcategoryRepository.class);
+
+        categoryId = transactionTemplate.execute(status -> {
+            Category category = new Category("10", "Camisetas");
+            entityManager.persist(category);
+            for (int i = 0; i < SUBCATEGORIES; i++) {
+                entityManager.persist(new Subcategory(String.valueOf(i), "Subcategoría " + i, category));
+            }
+            for (int i = 0; i < COLORS; i++) {
+                entityManager.persist(new Color(String.format("%02d", i), "Color " + i));
+            }
+            return category.getId();
+        });
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+        cacheManager.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Color colorByQuery() {
+        String code = String.format("%02d", next(COLORS));
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT c FROM Color c WHERE c.code = :code", Color.class)
+                .setParameter("code", code)
+                .getSingleResult());
+    }
+
+    @Benchmark
+    public Color colorByNaturalId() {
+        String code = String.format("%02d", next(COLORS));
+        return transactionTemplate.execute(status -> colorRepository.findByCode(code).orElseThrow());
+    }
+
+    @Benchmark
+    public Subcategory subcategoryByQuery() {
+        String code = String.valueOf(next(SUBCATEGORIES));
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT s FROM Subcategory s WHERE s.code = :code AND s.category.id = :categoryId",
+                        Subcategory.class)
+                .setParameter("code", code)
+                .setParameter("categoryId", categoryId)
+                .getSingleResult());
+    }
+
+    @Benchmark
+    public Subcategory subcategoryByNaturalId() {
+        String code = String.valueOf(next(SUBCATEGORIES));
+        return transactionTemplate.execute(status ->
+                subcategoryRepository.findByCodeAndCategoryId(code, categoryId).orElseThrow());
+    }
+
+    private int next(int bound) {
+        cursor = cursor + 1 == Integer.MAX_VALUE ? 0 : cursor + 1;
+        return cursor % bound;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CatalogCodeLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
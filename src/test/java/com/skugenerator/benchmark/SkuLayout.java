@@ -0,0 +1,144 @@
+package com.skugenerator.benchmark;
+
+import com.skugenerator.util.Constants;
+import com.skugenerator.util.SkuCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Descriptor declarativo de la estructura de un código SKU: la secuencia de segmentos
+ * con su nombre y cantidad de dígitos, terminando siempre en el consecutivo.
+ *
+ * Se escribe como texto "nombre:dígitos,..." y se compila una sola vez con
+ * {@link #compile()} en un {@link SkuLayoutCodec}. Solo existe para
+ * {@link SkuLayoutCodecBenchmark}: la aplicación genera, valida y persiste los SKUs
+ * siempre con la estructura fija de {@link SkuCode} y Constants.SkuCodes.
+ *
+ * Ejemplo (estructura por defecto):
+ * type:1,category:2,subcategory:1,size:2,color:2,season:1,consecutive:3
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class SkuLayout {
+
+    /** Nombre obligatorio del último segmento */
+    public static final String CONSECUTIVE = "consecutive";
+
+    /** Máximo de dígitos que caben en un long sin desbordar */
+    public static final int MAX_TOTAL_LENGTH = 18;
+
+    /** Estructura por defecto, equivalente a Constants.SkuCodes */
+    public static final SkuLayout DEFAULT = new SkuLayout(List.of(
+            new Segment("type", Constants.SkuCodes.TYPE_LENGTH),
+            new Segment("category", Constants.SkuCodes.CATEGORY_LENGTH),
+            new Segment("subcategory", Constants.SkuCodes.SUBCATEGORY_LENGTH),
+            new Segment("size", Constants.SkuCodes.SIZE_LENGTH),
+            new Segment("color", Constants.SkuCodes.COLOR_LENGTH),
+            new Segment("season", Constants.SkuCodes.SEASON_LENGTH),
+            new Segment(CONSECUTIVE, Constants.SkuCodes.CONSECUTIVE_LENGTH)));
+
+    private final List<Segment> segments;
+
+    /**
+     * Crea el descriptor validando la secuencia de segmentos.
+     *
+     * @param segments segmentos en orden, el último debe ser el consecutivo
+     * @throws IllegalArgumentException si la estructura no es válida
+     */
+    public SkuLayout(List<Segment> segments) {
+        if (segments == null || segments.size() < 2) {
+            throw new IllegalArgumentException("La estructura del SKU necesita al menos un atributo y el consecutivo");
+        }
+        Set<String> names = new LinkedHashSet<>();
+        int total = 0;
+        for (Segment segment : segments) {
+            if (segment.length() < 1) {
+                throw new IllegalArgumentException("El segmento " + segment.name() + " debe tener al menos un dígito");
+            }
+            if (!names.add(segment.name())) {
+                throw new IllegalArgumentException("Segmento repetido en la estructura del SKU: " + segment.name());
+            }
+            total += segment.length();
+        }
+        if (!CONSECUTIVE.equals(segments.get(segments.size() - 1).name())) {
+            throw new IllegalArgumentException("El último segmento del SKU debe ser " + CONSECUTIVE);
+        }
+        if (total > MAX_TOTAL_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("La estructura del SKU suma %d dígitos, el máximo es %d", total, MAX_TOTAL_LENGTH));
+        }
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    /**
+     * Interpreta el descriptor textual "nombre:dígitos,...".
+     *
+     * @param descriptor texto con los segmentos separados por comas
+     * @return estructura del SKU
+     * @throws IllegalArgumentException si el texto no es válido
+     */
+    public static SkuLayout parse(String descriptor) {
+        if (descriptor == null || descriptor.isBlank()) {
+            throw new IllegalArgumentException("La estructura del SKU está vacía");
+        }
+        List<Segment> segments = new ArrayList<>();
+        for (String token : descriptor.split(",")) {
+            String[] parts = token.trim().split(":");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException("Segmento inválido en la estructura del SKU: '" + token.trim() + "'");
+            }
+            try {
+                segments.add(new Segment(parts[0].trim(), Integer.parseInt(parts[1].trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Longitud inválida en el segmento '" + token.trim() + "'", e);
+            }
+        }
+        return new SkuLayout(segments);
+    }
+
+    /**
+     * Compila la estructura en un codificador con escalas y posiciones precalculadas.
+     *
+     * @return codificador de esta estructura
+     */
+    public SkuLayoutCodec compile() {
+        return new SkuLayoutCodec(this);
+    }
+
+    public List<Segment> segments() {
+        return segments;
+    }
+
+    /**
+     * Cantidad total de dígitos del SKU.
+     *
+     * @return longitud del código
+     */
+    public int totalLength() {
+        return segments.stream().mapToInt(Segment::length).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Segment segment : segments) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(segment.name()).append(':').append(segment.length());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Segmento de la estructura: nombre y cantidad de dígitos.
+     */
+    public record Segment(String name, int length) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.skugenerator.benchmark;
+
+import com.skugenerator.util.SkuCode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codificador de SKUs compilado a partir de un {@link SkuLayout}.
+ *
+ * Al compilar se calculan una sola vez la escala decimal, el módulo y la posición de cada
+ * segmento; la ruta por SKU solo hace divisiones, módulos y lecturas de arreglos finales,
+ * sin volver a recorrer el descriptor. Cada segmento se expone además como un
+ * {@link Field} con sus constantes en campos finales, pensado para guardarse en un campo
+ * del llamador y obtener el segmento con una división y un módulo.
+ *
+ * Igual que {@link SkuCode}, el SKU se empaqueta como el propio número decimal, de modo
+ * que el prefijo de atributos es el SKU sin los dígitos del consecutivo. Con la estructura
+ * por defecto ambos producen exactamente los mismos valores.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+public final class SkuLayoutCodec {
+
+    private final SkuLayout layout;
+    private final int totalLength;
+    private final int prefixLength;
+    private final long consecutiveScale;
+    private final int maxConsecutive;
+    private final long[] scales;
+    private final long[] moduli;
+    private final int[] offsets;
+    private final Field[] fields;
+    private final Map<String, Field> fieldsByName;
+
+    SkuLayoutCodec(SkuLayout layout) {
+        List<SkuLayout.Segment> segments = layout.segments();
+        int count = segments.size();
+        this.layout = layout;
+        this.totalLength = layout.totalLength();
+        this.scales = new long[count];
+        this.moduli = new long[count];
+        this.offsets = new int[count];
+        this.fields = new Field[count];
+        this.fieldsByName = new HashMap<>(count * 2);
+
+        long scale = 1;
+        int offset = totalLength;
+        for (int i = count - 1; i >= 0; i--) {
+            SkuLayout.Segment segment = segments.get(i);
+            offset -= segment.length();
+            scales[i] = scale;
+            moduli[i] = pow10(segment.length());
+            offsets[i] = offset;
+            fields[i] = new Field(segment.name(), i, scale, moduli[i], offset, segment.length());
+            fieldsByName.put(segment.name(), fields[i]);
+            scale *= moduli[i];
+        }
+        this.consecutiveScale = moduli[count - 1];
+        this.prefixLength = totalLength - segments.get(count - 1).length();
+        this.maxConsecutive = (int) (consecutiveScale - 1);
+    }
+
+    // ===================================================================
+    // CODIFICACIÓN
+    // ===================================================================
+
+    /**
+     * Empaqueta los valores de todos los segmentos, en el orden de la estructura.
+     *
+     * @param values valor de cada segmento, el último es el consecutivo
+     * @return SKU empaquetado
+     * @throws IllegalArgumentException si la cantidad de valores no coincide o alguno excede su segmento
+     */
+    public long encode(int... values) {
+        if (values.length != scales.length) {
+            throw new IllegalArgumentException(String.format(
+                    "La estructura %s tiene %d segmentos, se recibieron %d", layout, scales.length, values.length));
+        }
+        long sku = 0;
+        for (int i = 0; i < scales.length; i++) {
+            sku += checked(i, values[i]) * scales[i];
+        }
+        return sku;
+    }
+
+    /**
+     * Combina un prefijo empaquetado con un consecutivo.
+     *
+     * @param prefix prefijo empaquetado
+     * @param consecutive consecutivo
+     * @return SKU empaquetado
+     */
+    public long of(long prefix, int consecutive) {
+        return prefix * consecutiveScale + checked(scales.length - 1, consecutive);
+    }
+
+    // ===================================================================
+    // DECODIFICACIÓN
+    // ===================================================================
+
+    /**
+     * Obtiene el valor de un segmento por su posición en la estructura.
+     *
+     * @param sku SKU empaquetado
+     * @param index posición del segmento
+     * @return valor del segmento
+     */
+    public int segment(long sku, int index) {
+        return (int) (sku / scales[index] % moduli[index]);
+    }
+
+    public int consecutive(long sku) {
+        return (int) (sku % consecutiveScale);
+    }
+
+    public long prefix(long sku) {
+        return sku / consecutiveScale;
+    }
+
+    /**
+     * Obtiene el segmento compilado por nombre. Pensado para resolverse una vez y
+     * guardarse en un campo, no para usarse en cada SKU.
+     *
+     * @param name nombre del segmento
+     * @return segmento compilado
+     * @throws IllegalArgumentException si la estructura no tiene ese segmento
+     */
+    public Field field(String name) {
+        Field field = fieldsByName.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("La estructura " + layout + " no tiene el segmento " + name);
+        }
+        return field;
+    }
+
+    // ===================================================================
+    // PARSEO Y FORMATEO
+    // ===================================================================
+
+    /**
+     * Parsea un SKU textual con la longitud de la estructura.
+     *
+     * @param text SKU textual
+     * @return SKU empaquetado, o {@link SkuCode#INVALID} si no es válido
+     */
+    public long parse(CharSequence text) {
+        if (text == null || text.length() != totalLength) {
+            return SkuCode.INVALID;
+        }
+        long value = 0;
+        for (int i = 0; i < totalLength; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return SkuCode.INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Escribe los dígitos del SKU en un buffer de caracteres.
+     *
+     * @param sku SKU empaquetado
+     * @param dst buffer destino
+     * @param offset posición inicial en el buffer
+     * @return posición siguiente al último dígito escrito
+     */
+    public int format(long sku, char[] dst, int offset) {
+        long remaining = sku;
+        int end = offset + totalLength;
+        for (int i = end - 1; i >= offset; i--) {
+            dst[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    public String toString(long sku) {
+        char[] digits = new char[totalLength];
+        format(sku, digits, 0);
+        return new String(digits);
+    }
+
+    // ===================================================================
+    // PROPIEDADES DE LA ESTRUCTURA
+    // ===================================================================
+
+    public SkuLayout layout() {
+        return layout;
+    }
+
+    public int totalLength() {
+        return totalLength;
+    }
+
+    public int prefixLength() {
+        return prefixLength;
+    }
+
+    public int maxConsecutive() {
+        return maxConsecutive;
+    }
+
+    public int segmentCount() {
+        return scales.length;
+    }
+
+    /**
+     * Posición del primer dígito de un segmento dentro del SKU textual.
+     *
+     * @param index posición del segmento
+     * @return índice del primer carácter
+     */
+    public int offset(int index) {
+        return offsets[index];
+    }
+
+    @Override
+    public String toString() {
+        return "SkuLayoutCodec{" + layout + "}";
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private long checked(int index, int value) {
+        if (value < 0 || value >= moduli[index]) {
+            throw new IllegalArgumentException(String.format("El valor %d excede el segmento de %s (%d dígitos)",
+                    value, fields[index].name, fields[index].length));
+        }
+        return value;
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Segmento compilado: escala, módulo y posición como constantes finales.
+     */
+    public static final class Field {
+        private final String name;
+        private final int index;
+        private final long scale;
+        private final long modulus;
+        private final int offset;
+        private final int length;
+
+        private Field(String name, int index, long scale, long modulus, int offset, int length) {
+            this.name = name;
+            this.index = index;
+            this.scale = scale;
+            this.modulus = modulus;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /** Obtiene el valor del segmento del SKU empaquetado */
+        public int get(long sku) {
+            return (int) (sku / scale % modulus);
+        }
+
+        /** Reemplaza el valor del segmento en el SKU empaquetado */
+        public long with(long sku, int value) {
+            if (value < 0 || value >= modulus) {
+                throw new IllegalArgumentException(String.format(
+                        "El valor %d excede el segmento de %s (%d dígitos)", value, name, length));
+            }
+            return sku - get(sku) * scale + value * scale;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public int length() {
+            return length;
+        }
+    }
+}
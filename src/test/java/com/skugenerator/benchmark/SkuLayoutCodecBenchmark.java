@@ -0,0 +1,158 @@
+package com.skugenerator.benchmark;
+
+import com.skugenerator.util.SkuCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparación del codificador compilado desde {@link SkuLayout} con el codificador escrito
+ * a mano {@link SkuCode}, usando la estructura por defecto.
+ *
+ * Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.skugenerator.benchmark.SkuLayoutCodecBenchmark
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkuLayoutCodecBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final SkuLayoutCodec codec = SkuLayout.DEFAULT.compile();
+    private final SkuLayoutCodec.Field color = codec.field("color");
+    private final SkuLayoutCodec.Field size = codec.field("size");
+
+    private long[] skus;
+    private String[] texts;
+    private int[][] components;
+    private final char[] buffer = new char[SkuCode.PREFIX_LENGTH + 3];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        skus = new long[SAMPLES];
+        texts = new String[SAMPLES];
+        components = new int[SAMPLES][];
+        for (int i = 0; i < SAMPLES; i++) {
+            int[] values = {random.nextInt(1, 10), random.nextInt(100), random.nextInt(10), random.nextInt(100),
+                    random.nextInt(100), random.nextInt(10), random.nextInt(1, 1000)};
+            long handWritten = SkuCode.encode(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+            if (handWritten != codec.encode(values)) {
+                throw new IllegalStateException("Los codificadores no coinciden para " + handWritten);
+            }
+            components[i] = values;
+            skus[i] = handWritten;
+            texts[i] = SkuCode.toString(handWritten);
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (SAMPLES - 1);
+    }
+
+    // ===================================================================
+    // CODIFICACIÓN
+    // ===================================================================
+
+    @Benchmark
+    public long encodeHandWritten() {
+        int[] v = components[next()];
+        return SkuCode.encode(v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+    }
+
+    @Benchmark
+    public long encodeCompiled() {
+        return codec.encode(components[next()]);
+    }
+
+    // ===================================================================
+    // DECODIFICACIÓN
+    // ===================================================================
+
+    @Benchmark
+    public void decodeAllHandWritten(Blackhole bh) {
+        long sku = skus[next()];
+        bh.consume(SkuCode.type(sku));
+        bh.consume(SkuCode.category(sku));
+        bh.consume(SkuCode.subcategory(sku));
+        bh.consume(SkuCode.size(sku));
+        bh.consume(SkuCode.color(sku));
+        bh.consume(SkuCode.season(sku));
+        bh.consume(SkuCode.consecutive(sku));
+    }
+
+    @Benchmark
+    public void decodeAllCompiled(Blackhole bh) {
+        long sku = skus[next()];
+        for (int i = 0; i < codec.segmentCount(); i++) {
+            bh.consume(codec.segment(sku, i));
+        }
+    }
+
+    @Benchmark
+    public int decodeFieldsHandWritten() {
+        long sku = skus[next()];
+        return SkuCode.color(sku) + SkuCode.size(sku);
+    }
+
+    @Benchmark
+    public int decodeFieldsCompiled() {
+        long sku = skus[next()];
+        return color.get(sku) + size.get(sku);
+    }
+
+    // ===================================================================
+    // PARSEO Y FORMATEO
+    // ===================================================================
+
+    @Benchmark
+    public long parseHandWritten() {
+        return SkuCode.parse(texts[next()]);
+    }
+
+    @Benchmark
+    public long parseCompiled() {
+        return codec.parse(texts[next()]);
+    }
+
+    @Benchmark
+    public char[] formatHandWritten() {
+        SkuCode.format(skus[next()], buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public char[] formatCompiled() {
+        codec.format(skus[next()], buffer, 0);
+        return buffer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkuLayoutCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
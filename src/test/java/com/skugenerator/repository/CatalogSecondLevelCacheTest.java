@@ -0,0 +1,278 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.config.DatabaseConfig;
+import com.skugenerator.config.HibernateCacheConfig;
+import com.skugenerator.model.entity.*;
+import com.skugenerator.util.Constants;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de la cache de segundo nivel de los catálogos contra el DataSource H2 de pruebas.
+ *
+ * Arma Hibernate con las mismas regiones que la aplicación y usa los repositorios reales
+ * de Spring Data, de modo que las consultas cacheadas y las búsquedas por código son las
+ * de la aplicación. Cada prueba verifica con las estadísticas de Hibernate que la segunda
+ * lectura, en una sesión nueva, sale de la cache y no ejecuta SQL.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CatalogSecondLevelCacheTest {
+
+    private HikariDataSource dataSource;
+    private CacheManager cacheManager;
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = (HikariDataSource) new DatabaseConfig().testDataSource();
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager(HibernateCacheConfig.DEFAULT_REGIONS);
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, PhysicalNamingStrategyStandardImpl.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, ImplicitNamingStrategyLegacyJpaImpl.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+                .applySetting(AvailableSettings.USE_QUERY_CACHE, true)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName())
+                .applySetting(ConfigSettings.CACHE_MANAGER, cacheManager)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        for (Class<?> entity : List.of(ProductType.class, Category.class, Subcategory.class, Size.class,
+                Color.class, Season.class, Product.class)) {
+            sources.addAnnotatedClass(entity);
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        inTransaction(em -> {
+            Category category = new Category("10", "Camisetas");
+            em.persist(category);
+            em.persist(new Subcategory("1", "Manga corta", category));
+            em.persist(new Subcategory("2", "Manga larga", category));
+            em.persist(new Color("01", "Blanco"));
+            em.persist(new Color("02", "Negro"));
+            return null;
+        });
+    }
+
+    @AfterAll
+    void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+        cacheManager.close();
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void entityLoadsHitTheCache() {
+        Long id = inSession(em -> repository(em, ColorRepository.class).findByCode("01").orElseThrow().getId());
+        statistics.clear();
+
+        String name = inSession(em -> em.find(Color.class, id).getName());
+
+        assertThat(name).isEqualTo("Blanco");
+        assertThat(statistics.getDomainDataRegionStatistics(Constants.Cache.COLORS_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void codeLookupsResolveTheNaturalIdFromTheCache() {
+        inSession(em -> repository(em, ColorRepository.class).findByCode("02"));
+        statistics.clear();
+
+        String name = inSession(em -> repository(em, ColorRepository.class).findByCode("02").orElseThrow().getName());
+
+        assertThat(name).isEqualTo("Negro");
+        assertThat(statistics.getNaturalIdStatistics(Color.class.getName()).getCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void subcategoryLookupsByCategoryAndCodeResolveTheNaturalIdFromTheCache() {
+        Long categoryId = inSession(em -> repository(em, CategoryRepository.class).findByCode("10").orElseThrow().getId());
+        inSession(em -> repository(em, SubcategoryRepository.class).findByCodeAndCategoryId("2", categoryId));
+        statistics.clear();
+
+        String name = inSession(em -> repository(em, SubcategoryRepository.class)
+                .findByCodeAndCategoryId("2", categoryId).orElseThrow().getName());
+
+        assertThat(name).isEqualTo("Manga larga");
+        assertThat(statistics.getNaturalIdStatistics(Subcategory.class.getName()).getCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        Optional<Subcategory> missing = inSession(em -> repository(em, SubcategoryRepository.class)
+                .findByCodeAndCategoryId("9", categoryId));
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void changedCodeReplacesTheCachedNaturalId() {
+        Long id = inTransaction(em -> {
+            ProductType productType = new ProductType("7", "Accesorios");
+            em.persist(productType);
+            return productType.getId();
+        });
+        inSession(em -> repository(em, ProductTypeRepository.class).findByCode("7"));
+
+        inTransaction(em -> {
+            em.find(ProductType.class, id).setCode("8");
+            return null;
+        });
+
+        Optional<ProductType> previous = inSession(em -> repository(em, ProductTypeRepository.class).findByCode("7"));
+        Long current = inSession(em -> repository(em, ProductTypeRepository.class).findByCode("8").orElseThrow().getId());
+
+        assertThat(previous).isEmpty();
+        assertThat(current).isEqualTo(id);
+    }
+
+    @Test
+    void subcategoryFullCodeIsPersistedAndResolvesLookups() {
+        String name = inSession(em -> repository(em, SubcategoryRepository.class).findByFullCode("102")
+                .orElseThrow().getName());
+        List<String> fullCodes = inSession(em -> repository(em, SubcategoryRepository.class).findActiveWithFullCode()
+                .stream().map(row -> (String) row[1]).toList());
+
+        assertThat(name).isEqualTo("Manga larga");
+        assertThat(fullCodes).containsExactly("101", "102");
+    }
+
+    @Test
+    void changedCategoryCodeUpdatesSubcategoryFullCodes() {
+        Long id = inTransaction(em -> {
+            Category category = new Category("20", "Pantalones");
+            em.persist(category);
+            Subcategory subcategory = new Subcategory("1", "Jean", category);
+            subcategory.setActive(false);
+            em.persist(subcategory);
+            return subcategory.getId();
+        });
+
+        inTransaction(em -> {
+            repository(em, CategoryRepository.class).findByCode("20").orElseThrow().setCode("30");
+            return null;
+        });
+
+        Object fullCode = inSession(em -> em.createNativeQuery("SELECT full_code FROM subcategories WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult());
+        assertThat(fullCode).isEqualTo("301");
+    }
+
+    @Test
+    void subcategoriesCollectionHitsTheCache() {
+        Long id = inSession(em -> {
+            Category category = repository(em, CategoryRepository.class).findByCode("10").orElseThrow();
+            category.getSubcategories().size();
+            return category.getId();
+        });
+        statistics.clear();
+
+        int subcategories = inSession(em -> em.find(Category.class, id).getSubcategories().size());
+
+        assertThat(subcategories).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(Constants.Cache.CATEGORY_SUBCATEGORIES_REGION).getHitCount())
+                .isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void activeCatalogQueryHitsTheCacheUntilTheTableChanges() {
+        inSession(em -> repository(em, ColorRepository.class).findByActiveTrueOrderByDisplayOrder());
+        statistics.clear();
+
+        List<String> codes = inSession(em -> repository(em, ColorRepository.class).findByActiveTrueOrderByDisplayOrder()
+                .stream().map(Color::getCode).toList());
+
+        assertThat(codes).containsExactlyInAnyOrder("01", "02");
+        assertThat(statistics.getQueryRegionStatistics(Constants.Cache.ACTIVE_CATALOG_QUERY_REGION).getHitCount())
+                .isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        inTransaction(em -> {
+            em.persist(new Color("03", "Rojo"));
+            return null;
+        });
+        statistics.clear();
+
+        int active = inSession(em -> repository(em, ColorRepository.class).findByActiveTrueOrderByDisplayOrder().size());
+
+        assertThat(active).isEqualTo(3);
+        assertThat(statistics.getQueryRegionStatistics(Constants.Cache.ACTIVE_CATALOG_QUERY_REGION).getMissCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void subcategoriesByCategoryQueryHitsTheCache() {
+        Long categoryId = inSession(em -> repository(em, CategoryRepository.class).findByCode("10").orElseThrow().getId());
+        inSession(em -> repository(em, SubcategoryRepository.class).findActiveByCategoryId(categoryId));
+        statistics.clear();
+
+        int subcategories = inSession(em -> repository(em, SubcategoryRepository.class).findActiveByCategoryId(categoryId).size());
+
+        assertThat(subcategories).isEqualTo(2);
+        assertThat(statistics.getQueryRegionStatistics(Constants.Cache.SUBCATEGORIES_BY_CATEGORY_QUERY_REGION).getHitCount())
+                .isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private static <R> R repository(EntityManager em, Class<R> type) {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+        factory.setRepositoryBaseClass(NaturalIdJpaRepository.class);
+        return factory.getRepository(type);
+    }
+
+    private <T> T inSession(Function<EntityManager, T> work) {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            return work.apply(em);
+        }
+    }
+
+    private <T> T inTransaction(Function<EntityManager, T> work) {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            em.getTransaction().begin();
+            T result = work.apply(em);
+            em.getTransaction().commit();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.skugenerator.repository;
+
+import com.skugenerator.model.entity.*;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de los scripts de Flyway contra H2 en modo MySQL.
+ *
+ * Verifica que las migraciones corren sobre un esquema vacío, que el esquema resultante
+ * pasa la validación de Hibernate (ddl-auto: validate) para todas las entidades, y que
+ * una base creada antes de las migraciones incrementales recibe el código completo de
+ * sus subcategorías.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+class SchemaMigrationTest {
+
+    private static final List<Class<?>> ENTITIES = List.of(ProductType.class, Category.class, Subcategory.class,
+            Size.class, Color.class, Season.class, Product.class, ConsecutiveLease.class, IdempotencyRecord.class,
+            ConsecutiveReuseAudit.class, ProductComponent.class, SkuRangeReservation.class);
+
+    @Test
+    void migrationsProduceTheSchemaHibernateValidates() {
+        String url = url("schema_migration_empty");
+
+        flyway(url, null).migrate();
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "validate")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, PhysicalNamingStrategyStandardImpl.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, ImplicitNamingStrategyLegacyJpaImpl.class.getName())
+                .applySetting(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            ENTITIES.forEach(sources::addAnnotatedClass);
+            try (SessionFactory sessionFactory = sources.buildMetadata().buildSessionFactory()) {
+                assertThat(sessionFactory.isOpen()).isTrue();
+            }
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    @Test
+    void fullCodeIsBackfilledForExistingSubcategories() throws SQLException {
+        String url = url("schema_migration_backfill");
+        flyway(url, "1.0.0").migrate();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO categories (id, code, name, display_order, allows_subcategories, "
+                    + "active, version, created_date) VALUES (1, '10', 'Camisetas', 1, TRUE, TRUE, 0, CURRENT_TIMESTAMP)");
+            statement.executeUpdate("INSERT INTO subcategories (code, name, display_order, available_for_new_products, "
+                    + "category_id, active, version, created_date) VALUES ('2', 'Manga larga', 1, TRUE, 1, TRUE, 0, "
+                    + "CURRENT_TIMESTAMP)");
+        }
+
+        flyway(url, null).migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT full_code FROM subcategories")) {
+            assertThat(rows.next()).isTrue();
+            assertThat(rows.getString(1)).isEqualTo("102");
+        }
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    private static String url(String database) {
+        return "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+    }
+
+    private static Flyway flyway(String url, String target) {
+        var configuration = Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
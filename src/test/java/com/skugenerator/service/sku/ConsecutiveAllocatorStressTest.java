@@ -0,0 +1,378 @@
+package com.skugenerator.service.sku;
+
+import com.skugenerator.model.dto.VariantMatrixRequest;
+import com.skugenerator.model.entity.*;
+import com.skugenerator.repository.*;
+import com.skugenerator.service.catalog.CatalogCodeIndex;
+import com.skugenerator.service.catalog.CatalogSnapshot;
+import com.skugenerator.service.product.DuplicateDetector;
+import com.skugenerator.service.product.ProductLookupService;
+import com.skugenerator.service.product.ProductNameGenerator;
+import com.skugenerator.service.product.VariantMatrixService;
+import com.skugenerator.util.SkuCode;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de concurrencia de la generación de SKUs contra una base H2 en memoria propia.
+ *
+ * Arma un contexto de Spring con los servicios reales de la generación masiva
+ * ({@link VariantMatrixService}, {@link ConsecutiveAllocator} y sus colaboradores,
+ * {@link DuplicateDetector}, {@link ProductBatchRepository}) sobre la tabla products.
+ * Cada nivel de concurrencia (1 a 256 hilos) genera la misma cantidad de SKUs repartidos
+ * en varios prefijos propios del nivel, y verifica que no haya SKUs duplicados ni huecos:
+ * sin reutilización de consecutivos, cada prefijo debe quedar con los consecutivos 1..n.
+ * Al final se reporta el throughput y la latencia p99 de cada nivel.
+ *
+ * @author SKU Generator Development Team
+ * @version 1.0.0
+ * @since 2024
+ */
+@Slf4j
+@SpringJUnitConfig(ConsecutiveAllocatorStressTest.StressConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ConsecutiveAllocatorStressTest {
+
+    private static final int OPERATIONS_PER_LEVEL = 2048;
+    private static final int PREFIXES_PER_LEVEL = 8;
+    private static final int LEVELS = 9;
+
+    /** Cada solicitud genera una variante por color, es decir, un SKU en cada prefijo del nivel */
+    private static final int REQUESTS_PER_LEVEL = OPERATIONS_PER_LEVEL / PREFIXES_PER_LEVEL;
+
+    @Autowired
+    private VariantMatrixService variantMatrixService;
+
+    @Autowired
+    private CatalogCodeIndex catalogCodeIndex;
+
+    @Autowired
+    private DuplicateDetector duplicateDetector;
+
+    @Autowired
+    private ProductBatchRepository productBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductTypeRepository productTypeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SubcategoryRepository subcategoryRepository;
+
+    @Autowired
+    private SizeRepository sizeRepository;
+
+    @Autowired
+    private ColorRepository colorRepository;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    private final List<String> report = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) throws Exception {
+        String directory = Files.createTempDirectory("sku-stress").toString();
+        registry.add("app.storage.base-directory", () -> directory);
+    }
+
+    @BeforeAll
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category category = categoryRepository.save(new Category("01", "Camisetas"));
+            subcategoryRepository.save(new Subcategory("1", "Manga corta", category));
+            sizeRepository.save(new Size("01", "Chica"));
+            seasonRepository.save(new Season("1", "Primavera"));
+            for (int level = 1; level <= LEVELS; level++) {
+                productTypeRepository.save(new ProductType(String.valueOf(level), "Tipo " + level));
+            }
+            for (int color = 1; color <= PREFIXES_PER_LEVEL; color++) {
+                colorRepository.save(new Color(code(color), "Color " + color));
+            }
+        });
+        catalogCodeIndex.reload();
+        duplicateDetector.rebuild();
+    }
+
+    @AfterAll
+    void tearDown() {
+        log.info("Resultados de concurrencia de la generación de SKUs:\n{}", String.join("\n", report));
+    }
+
+    @Order(1)
+    @ParameterizedTest(name = "{0} hilos")
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32, 64, 128, 256})
+    void generatesWithoutDuplicatesOrGaps(int threads) throws Exception {
+        int level = level(threads);
+        int perThread = REQUESTS_PER_LEVEL / threads;
+        Queue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers.add(executor.submit(() -> {
+                long[] samples = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    long begin = System.nanoTime();
+                    variantMatrixService.generate(request(level, "Prenda " + thread + "-" + i,
+                            IntStream.rangeClosed(1, PREFIXES_PER_LEVEL)));
+                    samples[i] = System.nanoTime() - begin;
+                }
+                latencies.add(samples);
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES); // Propaga cualquier duplicado (violación de llave única)
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        int operations = perThread * threads * PREFIXES_PER_LEVEL;
+        assertNoDuplicatesOrGaps(prefixesFor(level), operations);
+        report(threads, operations, elapsed, latencies);
+    }
+
+    @Order(2)
+    @Test
+    void evictsAndRetriesAfterExternalWrite() {
+        long prefix = prefixesFor(1)[0];
+        int before = highWaterMark(prefix);
+        insertExternally(prefix, before + 1);
+
+        VariantMatrixRequest request = request(1, "Prenda tras escritura externa", IntStream.of(1));
+        assertThatThrownBy(() -> variantMatrixService.generate(request)).isInstanceOf(DuplicateKeyException.class);
+
+        String skuCode = variantMatrixService.generate(request).getSkus().get(0).getSkuCode();
+
+        assertThat(skuCode).isEqualTo(SkuCode.toString(SkuCode.of(prefix, before + 2)));
+    }
+
+    // ===================================================================
+    // MÉTODOS AUXILIARES
+    // ===================================================================
+
+    /**
+     * Nivel de concurrencia, que también es el código del tipo de producto de sus prefijos.
+     */
+    private static int level(int threads) {
+        return Integer.numberOfTrailingZeros(threads) + 1;
+    }
+
+    /**
+     * Prefijos exclusivos de un nivel: el tipo de producto distingue el nivel y el color el prefijo.
+     */
+    private static long[] prefixesFor(int level) {
+        long[] prefixes = new long[PREFIXES_PER_LEVEL];
+        for (int i = 0; i < PREFIXES_PER_LEVEL; i++) {
+            prefixes[i] = SkuCode.encodePrefix(level, 1, 1, 1, i + 1, 1);
+        }
+        return prefixes;
+    }
+
+    private static VariantMatrixRequest request(int level, String name, IntStream colors) {
+        return VariantMatrixRequest.builder()
+                .productTypeCode(String.valueOf(level))
+                .categoryCode("01")
+                .subcategoryCode("1")
+                .sizeCodes(Set.of("01"))
+                .colorCodes(colors.mapToObj(ConsecutiveAllocatorStressTest::code).collect(Collectors.toSet()))
+                .seasonCodes(Set.of("1"))
+                .name(name)
+                .build();
+    }
+
+    private static String code(int color) {
+        return String.format("%02d", color);
+    }
+
+    private int highWaterMark(long prefix) {
+        return jdbcTemplate.queryForObject("SELECT MAX(consecutive) FROM products WHERE sku_prefix = ?",
+                Integer.class, SkuCode.formatPrefix(prefix));
+    }
+
+    /**
+     * Inserta un producto sin pasar por el asignador, como lo haría otro proceso.
+     */
+    private void insertExternally(long prefix, int consecutive) {
+        CatalogSnapshot catalogs = catalogCodeIndex.snapshot();
+        Category category = catalogs.activeCategory("01");
+        Product product = Product.builder()
+                .skuCode(SkuCode.toString(SkuCode.of(prefix, consecutive)))
+                .skuPrefix(SkuCode.formatPrefix(prefix))
+                .consecutive(consecutive)
+                .name("Producto externo")
+                .productType(catalogs.activeProductType("1"))
+                .category(category)
+                .subcategory(catalogs.activeSubcategory(category, "1"))
+                .size(catalogs.activeSize("01"))
+                .color(catalogs.activeColor("01"))
+                .season(catalogs.activeSeason("1"))
+                .build();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                productBatchRepository.insertAll(List.of(product)));
+    }
+
+    private void assertNoDuplicatesOrGaps(long[] prefixes, int operations) {
+        String[] skuPrefixes = Arrays.stream(prefixes).mapToObj(SkuCode::formatPrefix).toArray(String[]::new);
+        String placeholders = String.join(",", Collections.nCopies(skuPrefixes.length, "?"));
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT sku_prefix, COUNT(*) AS total, COUNT(DISTINCT consecutive) AS distinct_total, " +
+                        "MIN(consecutive) AS low, MAX(consecutive) AS high " +
+                        "FROM products WHERE sku_prefix IN (" + placeholders + ") GROUP BY sku_prefix",
+                (Object[]) skuPrefixes);
+
+        long total = 0;
+        for (Map<String, Object> row : rows) {
+            long count = ((Number) row.get("TOTAL")).longValue();
+            assertThat(((Number) row.get("DISTINCT_TOTAL")).longValue()).as("duplicados en %s", row.get("SKU_PREFIX"))
+                    .isEqualTo(count);
+            assertThat(((Number) row.get("LOW")).intValue()).as("primer consecutivo de %s", row.get("SKU_PREFIX"))
+                    .isEqualTo(1);
+            assertThat(((Number) row.get("HIGH")).longValue()).as("huecos en %s", row.get("SKU_PREFIX"))
+                    .isEqualTo(count);
+            total += count;
+        }
+        assertThat(total).isEqualTo(operations);
+    }
+
+    private void report(int threads, int operations, long elapsedNanos, Queue<long[]> latencies) {
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = operations / (elapsedNanos / 1e9);
+        double p99Millis = all[(int) Math.ceil(all.length * 0.99) - 1] / 1e6;
+        report.add(String.format("%4d hilos: %6d SKUs, %10.0f SKUs/s, p99 %8.3f ms por solicitud",
+                threads, operations, throughput, p99Millis));
+    }
+
+    // ===================================================================
+    // CONTEXTO DE PRUEBA
+    // ===================================================================
+
+    /**
+     * Servicios reales de la generación masiva sobre una base H2 en memoria propia.
+     */
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = ProductRepository.class, repositoryBaseClass = NaturalIdJpaRepository.class)
+    @EnableTransactionManagement
+    @Import({VariantMatrixService.class, ProductBatchRepository.class, CatalogCodeIndex.class,
+            DuplicateDetector.class, ProductNameGenerator.class, ProductLookupService.class,
+            ConsecutiveAllocator.class, ProductHighWaterMarkSource.class, OccupancyRegistry.class,
+            ConsecutiveFreeList.class, AllocationJournal.class, WarmSkuPools.class})
+    static class StressConfig {
+
+        /**
+         * Base H2 propia de este contexto: la de {@link com.skugenerator.config.DatabaseConfig}
+         * es compartida con otras clases de prueba del mismo proceso.
+         */
+        @Bean(destroyMethod = "close")
+        DataSource dataSource() {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl("jdbc:h2:mem:stress-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+            config.setUsername("sa");
+            config.setPassword("");
+            config.setPoolName("SkuGeneratorStressPool");
+            config.setMaximumPoolSize(5);
+            config.setConnectionTimeout(5000);
+            return new HikariDataSource(config);
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+            entityManagerFactory.setDataSource(dataSource);
+            entityManagerFactory.setPackagesToScan("com.skugenerator.model.entity");
+            entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            entityManagerFactory.setJpaPropertyMap(Map.of(
+                    AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                    AvailableSettings.PHYSICAL_NAMING_STRATEGY,
+                    "org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl",
+                    AvailableSettings.IMPLICIT_NAMING_STRATEGY,
+                    "org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl",
+                    AvailableSettings.JAKARTA_VALIDATION_MODE, "none"));
+            return entityManagerFactory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("system");
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}